@@ -50,4 +50,11 @@ public @interface Config {
 
     boolean copyDefault() default false;
 
+    boolean compressed() default false;
+
+    boolean snapshot() default false;
+
+    @NotNull
+    String snapshotLocation() default "";
+
 }
@@ -0,0 +1,296 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free from charge, to any person obtaining a copy
+ * from this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies from the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions from the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.configs.configuration;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A map of the values of a section, which keeps its keys and values side by side in a single array while it
+ * is small and moves them into a {@link LinkedHashMap} once it has more than {@link #THRESHOLD} keys.
+ * <p>
+ * Most sections have a few keys, for which a hash table and an entry object per key take several times the
+ * heap of the keys and values themselves. Looking a key up in the array compares it with every key, which is
+ * as fast as hashing for that few keys. Either way the keys keep the order they were put in.
+ */
+final class CompactMap extends AbstractMap<String, Object> {
+
+    /**
+     * The biggest number of keys kept in the array.
+     */
+    static final int THRESHOLD = 8;
+
+    private static final Object[] EMPTY = new Object[0];
+
+    /**
+     * The keys at even and their values at odd indexes, while the map is not promoted.
+     */
+    @NotNull
+    private Object[] table = CompactMap.EMPTY;
+
+    private int size;
+
+    /**
+     * The map holding the values after the promotion, null before it.
+     */
+    @Nullable
+    private Map<String, Object> promoted;
+
+    private int modifications;
+
+    @Nullable
+    private Set<Map.Entry<String, Object>> entries;
+
+    /**
+     * Copies the map, keeping the order of its keys.
+     *
+     * @param map The map to copy.
+     * @return The copy.
+     */
+    @NotNull
+    static CompactMap copyOf(@NotNull final Map<String, Object> map) {
+        final CompactMap copy = new CompactMap();
+        if (map instanceof CompactMap && ((CompactMap) map).promoted == null) {
+            final CompactMap compact = (CompactMap) map;
+            copy.table = compact.size == 0 ? CompactMap.EMPTY : compact.table.clone();
+            copy.size = compact.size;
+        } else if (map.size() > CompactMap.THRESHOLD) {
+            copy.promoted = new LinkedHashMap<>(map);
+        } else {
+            copy.putAll(map);
+        }
+        return copy;
+    }
+
+    @Override
+    public int size() {
+        return this.promoted == null ? this.size : this.promoted.size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.promoted == null ? this.indexOf(key) >= 0 : this.promoted.containsKey(key);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        if (this.promoted != null) {
+            return this.promoted.get(key);
+        }
+        final int index = this.indexOf(key);
+        return index < 0 ? null : this.table[(index << 1) + 1];
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        if (this.promoted != null) {
+            return this.promoted.put(key, value);
+        }
+        final int index = this.indexOf(key);
+        if (index >= 0) {
+            final Object old = this.table[(index << 1) + 1];
+            this.table[(index << 1) + 1] = value;
+            return old;
+        }
+        this.modifications++;
+        if (this.size == CompactMap.THRESHOLD) {
+            this.promote().put(key, value);
+            return null;
+        }
+        if (this.size << 1 == this.table.length) {
+            final Object[] grown = new Object[Math.max(4, this.table.length << 1)];
+            System.arraycopy(this.table, 0, grown, 0, this.table.length);
+            this.table = grown;
+        }
+        this.table[this.size << 1] = key;
+        this.table[(this.size << 1) + 1] = value;
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        if (this.promoted != null) {
+            return this.promoted.remove(key);
+        }
+        final int index = this.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        final Object old = this.table[(index << 1) + 1];
+        this.removeAt(index);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        this.modifications++;
+        this.promoted = null;
+        this.table = CompactMap.EMPTY;
+        this.size = 0;
+    }
+
+    @NotNull
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (this.entries == null) {
+            this.entries = new EntrySet();
+        }
+        return this.entries;
+    }
+
+    private int indexOf(@Nullable final Object key) {
+        for (int index = 0; index < this.size; index++) {
+            if (Objects.equals(key, this.table[index << 1])) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(final int index) {
+        this.modifications++;
+        final int moved = this.size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(this.table, (index + 1) << 1, this.table, index << 1, moved << 1);
+        }
+        this.size--;
+        this.table[this.size << 1] = null;
+        this.table[(this.size << 1) + 1] = null;
+    }
+
+    @NotNull
+    private Map<String, Object> promote() {
+        final Map<String, Object> map = new LinkedHashMap<>(CompactMap.THRESHOLD << 2);
+        for (int index = 0; index < this.size; index++) {
+            map.put((String) this.table[index << 1], this.table[(index << 1) + 1]);
+        }
+        this.table = CompactMap.EMPTY;
+        this.size = 0;
+        this.promoted = map;
+        return map;
+    }
+
+    /**
+     * The entries of the map, which follows the map through its promotion.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return CompactMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+
+        @NotNull
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            final Map<String, Object> map = CompactMap.this.promoted;
+            return map == null ? new Entries() : map.entrySet().iterator();
+        }
+
+    }
+
+    /**
+     * Iterator of the entries in the array.
+     */
+    private final class Entries implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+
+        private int last = -1;
+
+        private int expected = CompactMap.this.modifications;
+
+        @Override
+        public boolean hasNext() {
+            // a changed map may have been promoted and emptied its table, so next() is left to fail for it
+            return this.expected != CompactMap.this.modifications || this.next < CompactMap.this.size;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (this.expected != CompactMap.this.modifications) {
+                throw new ConcurrentModificationException();
+            }
+            if (this.next >= CompactMap.this.size) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next++;
+            final Object[] table = CompactMap.this.table;
+            return new Entry((String) table[this.last << 1], table[(this.last << 1) + 1]);
+        }
+
+        @Override
+        public void remove() {
+            if (this.last < 0) {
+                throw new IllegalStateException();
+            }
+            if (this.expected != CompactMap.this.modifications) {
+                throw new ConcurrentModificationException();
+            }
+            CompactMap.this.removeAt(this.last);
+            this.next = this.last;
+            this.last = -1;
+            this.expected = CompactMap.this.modifications;
+        }
+
+    }
+
+    /**
+     * An entry which sets its value in the map too, as long as the map has its key.
+     */
+    private final class Entry extends AbstractMap.SimpleEntry<String, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private Entry(@NotNull final String key, @Nullable final Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            if (CompactMap.this.containsKey(this.getKey())) {
+                CompactMap.this.put(this.getKey(), value);
+            }
+            return super.setValue(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free from charge, to any person obtaining a copy
+ * from this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies from the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions from the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.configs.configuration;
+
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A path which is split into its keys once, so it can be used for any number of lookups in a
+ * {@link ConfigurationSection} without splitting or copying it again.
+ * <p>
+ * The keys are taken from the path as it is given, so they may contain the path separator of the
+ * configuration they are used with, and keys with a separator can be added with {@link #child(String)}.
+ * Paths are immutable and can be kept in constants.
+ */
+public final class ConfigPath {
+
+    private static final ConfigPath EMPTY = new ConfigPath(new String[0], "", '.');
+
+    @NotNull
+    private final String[] keys;
+
+    @NotNull
+    private final String path;
+
+    private final char separator;
+
+    private ConfigPath(@NotNull final String[] keys, @NotNull final String path, final char separator) {
+        this.keys = keys;
+        this.path = path;
+        this.separator = separator;
+        for (final String key : keys) {
+            // computes the hash once, the map lookups of the key reuse it
+            key.hashCode();
+        }
+    }
+
+    /**
+     * Compiles the path, split with the default path separator.
+     *
+     * @param path Path to compile.
+     * @return The compiled path.
+     */
+    @NotNull
+    public static ConfigPath of(@NotNull final String path) {
+        return ConfigPath.of(path, '.');
+    }
+
+    /**
+     * Compiles the path, split with the separator. The empty path is the section itself.
+     *
+     * @param path Path to compile.
+     * @param separator Separator between the keys of the path.
+     * @return The compiled path.
+     */
+    @NotNull
+    public static ConfigPath of(@NotNull final String path, final char separator) {
+        if (path.isEmpty()) {
+            return ConfigPath.EMPTY;
+        }
+        int count = 1;
+        for (int index = path.indexOf(separator); index != -1; index = path.indexOf(separator, index + 1)) {
+            count++;
+        }
+        final String[] keys = new String[count];
+        int start = 0;
+        for (int index = 0; index < count - 1; index++) {
+            final int end = path.indexOf(separator, start);
+            keys[index] = path.substring(start, end);
+            start = end + 1;
+        }
+        keys[count - 1] = path.substring(start);
+        return new ConfigPath(keys, path, separator);
+    }
+
+    /**
+     * Gets the path of the key under this path. The key is used as it is, even if it contains the
+     * separator.
+     *
+     * @param key Key under this path.
+     * @return The path of the key.
+     */
+    @NotNull
+    public ConfigPath child(@NotNull final String key) {
+        final String[] children = Arrays.copyOf(this.keys, this.keys.length + 1);
+        children[this.keys.length] = key;
+        return new ConfigPath(children, this.keys.length == 0 ? key : this.path + this.separator + key,
+            this.separator);
+    }
+
+    /**
+     * Gets the number of keys of this path.
+     *
+     * @return Number of keys, 0 for the empty path.
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Gets the key at the index, the first one being the key in the section the path is used with.
+     *
+     * @param index Index of the key.
+     * @return The key at the index.
+     */
+    @NotNull
+    public String key(final int index) {
+        return this.keys[index];
+    }
+
+    /**
+     * Gets this path as a string, joined with the separator.
+     *
+     * @param separator Separator between the keys.
+     * @return The path as a string.
+     */
+    @NotNull
+    public String toString(final char separator) {
+        if (separator == this.separator) {
+            return this.path;
+        }
+        return String.join(String.valueOf(separator), this.keys);
+    }
+
+    /**
+     * Gets this path as a string, joined with the path separator of the section.
+     *
+     * @param section Section to join the path for.
+     * @return The path as a string.
+     */
+    @NotNull
+    String in(@NotNull final ConfigurationSection section) {
+        final Configuration root = section.getRoot();
+        return this.toString(root == null ? this.separator : root.options().pathSeparator());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        return this == obj || obj instanceof ConfigPath && Arrays.equals(this.keys, ((ConfigPath) obj).keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.keys);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return this.path;
+    }
+
+}
@@ -39,6 +39,8 @@ public class ConfigurationOptions {
 
     private boolean copyDefaults = false;
 
+    private boolean pathIndex = false;
+
     protected ConfigurationOptions(@NotNull final Configuration configuration) {
         this.configuration = configuration;
     }
@@ -79,6 +81,9 @@ public class ConfigurationOptions {
     @NotNull
     public ConfigurationOptions pathSeparator(final char value) {
         this.pathSeparator = value;
+        if (this.pathIndex) {
+            this.indexPaths(true);
+        }
         return this;
     }
 
@@ -121,4 +126,49 @@ public class ConfigurationOptions {
         return this;
     }
 
+    /**
+     * Checks if the {@link Configuration} keeps an index from the full path
+     * of every value and section to it.
+     * <p>
+     * With the index, getting a value by its full path from the root is a
+     * single lookup instead of one lookup per section of the path, and the
+     * full paths of {@link ConfigurationSection#getKeys(boolean)} and
+     * {@link ConfigurationSection#getValues(boolean)} are not built again.
+     * Setting values costs one more lookup and the index keeps one entry and
+     * one path string per value. The default value is false.
+     *
+     * @return Whether or not the paths are indexed
+     */
+    public final boolean pathIndex() {
+        return this.pathIndex;
+    }
+
+    /**
+     * Sets if the {@link Configuration} should keep an index from the full
+     * path of every value and section to it. Enabling it indexes the current
+     * values; disabling it drops the index.
+     * <p>
+     * With the index, getting a value by its full path from the root is a
+     * single lookup instead of one lookup per section of the path, and the
+     * full paths of {@link ConfigurationSection#getKeys(boolean)} and
+     * {@link ConfigurationSection#getValues(boolean)} are not built again.
+     * Setting values costs one more lookup and the index keeps one entry and
+     * one path string per value. The default value is false.
+     *
+     * @param value Whether or not the paths are indexed
+     * @return This object, for chaining
+     */
+    @NotNull
+    public ConfigurationOptions pathIndex(final boolean value) {
+        this.pathIndex = value;
+        this.indexPaths(value);
+        return this;
+    }
+
+    private void indexPaths(final boolean enabled) {
+        if (this.configuration instanceof MemorySection) {
+            ((MemorySection) this.configuration).indexPaths(enabled);
+        }
+    }
+
 }
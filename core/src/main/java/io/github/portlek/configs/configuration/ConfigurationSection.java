@@ -205,6 +205,11 @@ public interface ConfigurationSection {
      * their individual javadocs for details. No implementations should allow
      * you to store {@link Configuration}s or {@link ConfigurationSection}s,
      * please use {@link #createSection(String)} for that.
+     * <p>
+     * A list of only Integers, only Longs or only Doubles is stored as a
+     * copy which keeps the numbers in an array, so later changes to the given
+     * list are not seen; change the list given by {@link #getList(String)}
+     * instead, which accepts any element like the original one.
      *
      * @param path Path from the object to set.
      * @param value New value to set the value to.
@@ -657,6 +662,48 @@ public interface ConfigurationSection {
      */
     @NotNull List<Map<Object, Object>> getMapList(@NotNull String path);
 
+    /**
+     * Gets the requested list of ints by value, as an array.
+     * <p>
+     * Lists of only Integers are stored as arrays, which are given as they
+     * are, without copying or boxing; changing such an array changes the
+     * list. A {@link #snapshot()} gives a copy. Other lists are converted
+     * like {@link #getIntegerList(String)} into a new array. If the List does
+     * not exist, this will return an empty array.
+     *
+     * @param path Path from the List to get.
+     * @return Requested array from int.
+     */
+    @NotNull int[] getIntArray(@NotNull String path);
+
+    /**
+     * Gets the requested list of longs by value, as an array.
+     * <p>
+     * Lists of only Longs are stored as arrays, which are given as they are,
+     * without copying or boxing; changing such an array changes the list. A
+     * {@link #snapshot()} gives a copy. Other lists are converted like
+     * {@link #getLongList(String)} into a new array. If the List does not
+     * exist, this will return an empty array.
+     *
+     * @param path Path from the List to get.
+     * @return Requested array from long.
+     */
+    @NotNull long[] getLongArray(@NotNull String path);
+
+    /**
+     * Gets the requested list of doubles by value, as an array.
+     * <p>
+     * Lists of only Doubles are stored as arrays, which are given as they
+     * are, without copying or boxing; changing such an array changes the
+     * list. A {@link #snapshot()} gives a copy. Other lists are converted
+     * like {@link #getDoubleList(String)} into a new array. If the List does
+     * not exist, this will return an empty array.
+     *
+     * @param path Path from the List to get.
+     * @return Requested array from double.
+     */
+    @NotNull double[] getDoubleArray(@NotNull String path);
+
     // Bukkit
 
     /**
@@ -763,4 +810,182 @@ public interface ConfigurationSection {
      */
     void addDefault(@NotNull String path, @Nullable Object value);
 
+    /**
+     * Takes a read-only copy of this section, as a {@link Configuration}
+     * holding its values as they are now.
+     * <p>
+     * The snapshot shares the values with this section rather than copying
+     * them, so it is taken at once whatever the size of the section. It does
+     * not change when this section changes afterwards, and it may be read
+     * from any thread while the thread which changes this section goes on.
+     * Changing the snapshot throws {@link UnsupportedOperationException},
+     * and so does changing a list got from it; its array getters give
+     * copies. A section copies its lists before giving them out once a
+     * snapshot shares them, but a list got before the snapshot was taken is
+     * still shared with it and must not be changed in place. The defaults of
+     * the root are shared too, for a snapshot of the root only.
+     *
+     * @return The snapshot of this section.
+     */
+    @NotNull Configuration snapshot();
+
+    /**
+     * Takes a copy of this section which can be changed, as a {@link
+     * Configuration} holding its values as they are now.
+     * <p>
+     * Like a {@link #snapshot()}, the fork is taken at once and shares the
+     * values with this section, and each of them copies only the sections it
+     * changes, or gets lists from, afterwards. The fork is meant for the
+     * thread which changes this section, as reading it may take in the
+     * shared sections.
+     *
+     * @return The fork of this section.
+     */
+    @NotNull Configuration fork();
+
+    /**
+     * Checks if this {@link ConfigurationSection} contains the given compiled
+     * path.
+     *
+     * @param path Path to check for existence.
+     * @return True if this section contains the requested path, either via
+     * default or being set.
+     * @see #contains(String)
+     */
+    default boolean contains(@NotNull final ConfigPath path) {
+        return this.get(path) != null;
+    }
+
+    /**
+     * Gets the requested Object by compiled path.
+     *
+     * @param path Path from the Object to get.
+     * @return Requested Object.
+     * @see #get(String)
+     */
+    @Nullable
+    default Object get(@NotNull final ConfigPath path) {
+        return this.get(path.in(this));
+    }
+
+    /**
+     * Gets the requested Object by compiled path, returning a default value
+     * if not found.
+     *
+     * @param path Path from the Object to get.
+     * @param def The default value to return if the value is not found.
+     * @return Requested Object.
+     * @see #get(String, Object)
+     */
+    @Nullable
+    default Object get(@NotNull final ConfigPath path, @Nullable final Object def) {
+        return this.get(path.in(this), def);
+    }
+
+    /**
+     * Sets the specified compiled path to the given value.
+     *
+     * @param path Path from the object to set.
+     * @param value New value to set the value to.
+     * @see #set(String, Object)
+     */
+    default void set(@NotNull final ConfigPath path, @Nullable final Object value) {
+        this.set(path.in(this), value);
+    }
+
+    /**
+     * Creates an empty {@link ConfigurationSection} at the specified compiled
+     * path.
+     *
+     * @param path Path to create the section at.
+     * @return Newly created section
+     * @see #createSection(String)
+     */
+    @NotNull
+    default ConfigurationSection createSection(@NotNull final ConfigPath path) {
+        return this.createSection(path.in(this));
+    }
+
+    /**
+     * Gets the requested String by compiled path, returning a default value
+     * if not found.
+     *
+     * @param path Path from the String to get.
+     * @param def The default value to return if the value is not found.
+     * @return Requested String.
+     * @see #getString(String, String)
+     */
+    @Nullable
+    default String getString(@NotNull final ConfigPath path, @Nullable final String def) {
+        return this.getString(path.in(this), def);
+    }
+
+    /**
+     * Gets the requested int by compiled path, returning a default value if
+     * not found.
+     *
+     * @param path Path from the int to get.
+     * @param def The default value to return if the value is not found or is
+     * not an int.
+     * @return Requested int.
+     * @see #getInt(String, int)
+     */
+    default int getInt(@NotNull final ConfigPath path, final int def) {
+        return this.getInt(path.in(this), def);
+    }
+
+    /**
+     * Gets the requested boolean by compiled path, returning a default value
+     * if not found.
+     *
+     * @param path Path from the boolean to get.
+     * @param def The default value to return if the value is not found or is
+     * not a boolean.
+     * @return Requested boolean.
+     * @see #getBoolean(String, boolean)
+     */
+    default boolean getBoolean(@NotNull final ConfigPath path, final boolean def) {
+        return this.getBoolean(path.in(this), def);
+    }
+
+    /**
+     * Gets the requested double by compiled path, returning a default value
+     * if not found.
+     *
+     * @param path Path from the double to get.
+     * @param def The default value to return if the value is not found or is
+     * not a double.
+     * @return Requested double.
+     * @see #getDouble(String, double)
+     */
+    default double getDouble(@NotNull final ConfigPath path, final double def) {
+        return this.getDouble(path.in(this), def);
+    }
+
+    /**
+     * Gets the requested long by compiled path, returning a default value if
+     * not found.
+     *
+     * @param path Path from the long to get.
+     * @param def The default value to return if the value is not found or is
+     * not a long.
+     * @return Requested long.
+     * @see #getLong(String, long)
+     */
+    default long getLong(@NotNull final ConfigPath path, final long def) {
+        return this.getLong(path.in(this), def);
+    }
+
+    /**
+     * Gets the requested ConfigurationSection by compiled path.
+     *
+     * @param path Path from the ConfigurationSection to get.
+     * @return Requested ConfigurationSection.
+     * @see #getConfigurationSection(String)
+     */
+    @Nullable
+    default ConfigurationSection getConfigurationSection(@NotNull final ConfigPath path) {
+        return this.getConfigurationSection(path.in(this));
+    }
+
 }
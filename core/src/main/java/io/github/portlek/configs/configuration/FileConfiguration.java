@@ -27,6 +27,13 @@ package io.github.portlek.configs.configuration;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import lombok.Cleanup;
 import lombok.SneakyThrows;
 import org.jetbrains.annotations.NotNull;
@@ -36,6 +43,13 @@ import org.jetbrains.annotations.NotNull;
  */
 public abstract class FileConfiguration extends MemoryConfiguration {
 
+    /**
+     * The suffix of the files which are stored compressed through gzip.
+     */
+    public static final String COMPRESSED_SUFFIX = ".gz";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
     /**
      * Creates an empty {@link FileConfiguration} with no default values.
      */
@@ -56,15 +70,95 @@ public abstract class FileConfiguration extends MemoryConfiguration {
      * @param file File to save to.
      * @throws IllegalArgumentException Thrown when file is null.
      */
-    @SneakyThrows
     public final void save(@NotNull final File file) {
-        file.getParentFile().mkdirs();
-        final String data = this.saveToString();
-        try (final Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
-            writer.write(data);
+        this.save(file.toPath());
+    }
+
+    /**
+     * Saves this {@link FileConfiguration} to the specified location.
+     * <p>
+     * If the file does not exist, it will be created. If already exists, it
+     * will be overwritten. If it cannot be overwritten or created, an
+     * exception will be thrown.
+     * <p>
+     * The configuration is written in UTF8 through a buffered writer, as it
+     * is serialized, to a file next to the specified one which then replaces
+     * it, so the file is never left half written.
+     *
+     * @param path Path of the file to save to.
+     */
+    @SneakyThrows
+    public final void save(@NotNull final Path path) {
+        final Path target = path.toAbsolutePath();
+        final Path parent = target.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.beforeSave(path);
+        final Path temporary = target.resolveSibling(target.getFileName() + ".tmp" +
+            (FileConfiguration.isCompressed(target) ? FileConfiguration.COMPRESSED_SUFFIX : ""));
+        try {
+            this.saveToPath(temporary);
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
         }
     }
 
+    /**
+     * Saves this {@link FileConfiguration} to the specified file, of which
+     * the parent directories exist.
+     * <p>
+     * This implementation opens the file as UTF-8, compressed if
+     * {@link #isCompressed(Path)}, and passes it to {@link #save(Writer)}.
+     * Characters which cannot be encoded are replaced, as
+     * {@link #save(File)} always did. Implementations which do not write
+     * text should override this method.
+     *
+     * @param path the file to save to
+     * @throws IOException if the file cannot be written
+     */
+    protected void saveToPath(@NotNull final Path path) throws IOException {
+        try (final Writer writer = new BufferedWriter(
+            new OutputStreamWriter(FileConfiguration.newOutputStream(path), StandardCharsets.UTF_8))) {
+            this.save(writer);
+        }
+    }
+
+    /**
+     * Called when this {@link FileConfiguration} is about to be saved to the
+     * specified file, before the file is opened for writing and while its
+     * previous content can still be read.
+     * <p>
+     * This implementation does nothing. Implementations which read their
+     * file lazily should load what they still need from it here.
+     *
+     * @param path the file which is about to be written
+     * @throws IOException if the file cannot be read
+     */
+    protected void beforeSave(@NotNull final Path path) throws IOException {
+    }
+
+    /**
+     * Saves this {@link FileConfiguration} to the specified writer, which is
+     * not closed by this method.
+     * <p>
+     * This implementation writes the result of {@link #saveToString()}.
+     * Implementations which can serialize the configuration straight into
+     * the writer should override this method, so the whole document is never
+     * held in memory.
+     *
+     * @param writer the writer to save to
+     * @throws IOException if the writer cannot be written
+     */
+    public void save(@NotNull final Writer writer) throws IOException {
+        writer.write(this.saveToString());
+    }
+
     /**
      * Saves this {@link FileConfiguration} to a string, and returns it.
      *
@@ -103,10 +197,26 @@ public abstract class FileConfiguration extends MemoryConfiguration {
      * @param file File to load from.
      * @throws IllegalArgumentException Thrown when file is null.
      */
-    @SneakyThrows
     public final void load(@NotNull final File file) {
-        final FileInputStream stream = new FileInputStream(file);
-        this.load(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        this.load(file.toPath());
+    }
+
+    /**
+     * Loads this {@link FileConfiguration} from the specified location.
+     * <p>
+     * All the values contained within this configuration will be removed,
+     * leaving only settings and defaults, and the new values will be loaded
+     * from the given file through {@link #loadFromPath(Path)}, which
+     * streams it as UTF-8 unless an implementation reads it its own way.
+     * <p>
+     * If the file cannot be loaded for any reason, an exception will be
+     * thrown.
+     *
+     * @param path Path of the file to load from.
+     */
+    @SneakyThrows
+    public final void load(@NotNull final Path path) {
+        this.loadFromPath(path);
     }
 
     /**
@@ -128,9 +238,105 @@ public abstract class FileConfiguration extends MemoryConfiguration {
             input = new BufferedReader(reader);
         }
         @Cleanup final BufferedReader fnlinput = input;
+        this.loadFromReader(fnlinput);
+    }
+
+    /**
+     * Loads this {@link FileConfiguration} from the specified file.
+     * <p>
+     * This implementation opens the file as UTF-8, decompressing it while
+     * it is read if {@link #isCompressed(Path)}, and passes it to
+     * {@link #loadFromReader(BufferedReader)}. Malformed input is replaced
+     * rather than rejected, as {@link #load(File)} always did.
+     * Implementations which can make use of random access to the file
+     * should override this method.
+     *
+     * @param path the file to load from
+     * @throws IOException if the file cannot be read
+     */
+    protected void loadFromPath(@NotNull final Path path) throws IOException {
+        this.load(new BufferedReader(new InputStreamReader(FileConfiguration.newInputStream(path),
+            StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Checks if the specified file is stored compressed through gzip, that
+     * is if its name ends with {@link #COMPRESSED_SUFFIX}.
+     *
+     * @param path the file to check
+     * @return true if the file is compressed
+     */
+    public static boolean isCompressed(@NotNull final Path path) {
+        final Path name = path.getFileName();
+        return name != null && name.toString().endsWith(FileConfiguration.COMPRESSED_SUFFIX);
+    }
+
+    /**
+     * Opens the specified file for reading, decompressing its content while
+     * it is read if {@link #isCompressed(Path)}.
+     *
+     * @param path the file to read
+     * @param options the options to open the file with
+     * @return the stream of the file content
+     * @throws IOException if the file cannot be opened
+     */
+    @NotNull
+    protected static InputStream newInputStream(@NotNull final Path path, @NotNull final OpenOption... options)
+        throws IOException {
+        final InputStream input = Files.newInputStream(path, options);
+        if (!FileConfiguration.isCompressed(path)) {
+            return input;
+        }
+        try {
+            return new GZIPInputStream(input, FileConfiguration.BUFFER_SIZE);
+        } catch (final IOException exception) {
+            input.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Opens the specified file for writing, compressing the content while it
+     * is written if {@link #isCompressed(Path)}. Appending to a compressed
+     * file adds a new gzip member, which is read as a continuation of the
+     * previous ones.
+     *
+     * @param path the file to write
+     * @param options the options to open the file with
+     * @return the stream to the file
+     * @throws IOException if the file cannot be opened
+     */
+    @NotNull
+    protected static OutputStream newOutputStream(@NotNull final Path path, @NotNull final OpenOption... options)
+        throws IOException {
+        final OutputStream output = Files.newOutputStream(path, options);
+        if (!FileConfiguration.isCompressed(path)) {
+            return output;
+        }
+        try {
+            return new GZIPOutputStream(output, FileConfiguration.BUFFER_SIZE);
+        } catch (final IOException exception) {
+            output.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Loads this {@link FileConfiguration} from the specified reader, which
+     * is not closed by this method.
+     * <p>
+     * This implementation reads the whole content and passes it to
+     * {@link #loadFromString(String)}. Implementations which can parse the
+     * content while reading it should override this method, so the content
+     * is never held in memory as a whole.
+     *
+     * @param reader the reader to load from
+     * @throws IOException if the reader cannot be read
+     */
+    protected void loadFromReader(@NotNull final BufferedReader reader) throws IOException {
         final StringBuilder builder = new StringBuilder();
         String line;
-        while ((line = fnlinput.readLine()) != null) {
+        while ((line = reader.readLine()) != null) {
             builder.append(line);
             builder.append('\n');
         }
@@ -57,4 +57,11 @@ public class FileConfigurationOptions extends MemoryConfigurationOptions {
         return this;
     }
 
+    @NotNull
+    @Override
+    public FileConfigurationOptions pathIndex(final boolean value) {
+        super.pathIndex(value);
+        return this;
+    }
+
 }
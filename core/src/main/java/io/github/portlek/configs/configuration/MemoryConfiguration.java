@@ -40,6 +40,12 @@ public class MemoryConfiguration extends MemorySection implements Configuration
 
     protected MemoryConfigurationOptions options;
 
+    /**
+     * The versions of this tree, once it has a snapshot or fork or is one.
+     */
+    @Nullable
+    Versions versions;
+
     /**
      * Creates an empty {@link MemoryConfiguration} with no default values.
      */
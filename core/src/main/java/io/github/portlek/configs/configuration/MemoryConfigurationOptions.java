@@ -57,4 +57,11 @@ public class MemoryConfigurationOptions extends ConfigurationOptions {
         return this;
     }
 
+    @NotNull
+    @Override
+    public MemoryConfigurationOptions pathIndex(final boolean value) {
+        super.pathIndex(value);
+        return this;
+    }
+
 }
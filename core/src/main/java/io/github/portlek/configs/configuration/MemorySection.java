@@ -37,7 +37,11 @@ import org.jetbrains.annotations.Nullable;
  */
 public class MemorySection implements ConfigurationSection {
 
-    protected final Map<String, Object> map = new LinkedHashMap<>();
+    /**
+     * The values of this section. It is replaced by a copy before the first change in a version of the tree, see
+     * {@link #snapshot()}.
+     */
+    protected volatile Map<String, Object> map;
 
     private final Configuration root;
 
@@ -46,7 +50,34 @@ public class MemorySection implements ConfigurationSection {
 
     private final String path;
 
-    private final String fullPath;
+    /**
+     * The index of the paths of this root, null if it is not a root or does not index its paths.
+     */
+    @Nullable
+    private PathIndex index;
+
+    /**
+     * The index this section is in, if it is still the index of the root.
+     */
+    @Nullable
+    private PathIndex indexedIn;
+
+    /**
+     * The path of this section in {@link #indexedIn}, null for the root.
+     */
+    @Nullable
+    private String indexPath;
+
+    /**
+     * The version of the tree the map of this section was set in, -1 if it is shared with another tree.
+     */
+    private volatile int stamp;
+
+    /**
+     * The maps this section had in the earlier versions which snapshots or forks still read.
+     */
+    @Nullable
+    private volatile Versions.History history;
 
     /**
      * Creates an empty MemorySection for use as a root {@link Configuration}
@@ -64,9 +95,9 @@ public class MemorySection implements ConfigurationSection {
         }
 
         this.path = "";
-        this.fullPath = "";
         this.parent = null;
         this.root = (Configuration) this;
+        this.map = new CompactMap();
     }
 
     /**
@@ -79,10 +110,18 @@ public class MemorySection implements ConfigurationSection {
      * if parent contains no root Configuration.
      */
     protected MemorySection(@NotNull final ConfigurationSection parent, @NotNull final String path) {
+        this(parent, path, new CompactMap());
+        final Versions versions = this.versions();
+        this.stamp = versions == null ? 0 : versions.current;
+    }
+
+    private MemorySection(@NotNull final ConfigurationSection parent, @NotNull final String path,
+                          @NotNull final Map<String, Object> map) {
         this.path = path;
         this.parent = parent;
         this.root = parent.getRoot();
-        this.fullPath = MemorySection.createPath(parent, path);
+        this.map = map;
+        this.stamp = -1;
     }
 
     /**
@@ -183,6 +222,26 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
+    /**
+     * Gets the values set directly in this section, as a read-only view in the order they were set.
+     * <p>
+     * Unlike {@link #getValues(boolean)}, the values are neither copied nor merged with the defaults, except in
+     * a tree which has a snapshot or fork, which copies them to give its own sections and lists.
+     *
+     * @return Read-only view of the values of this section.
+     */
+    @NotNull
+    public final Map<String, Object> getLocalValues() {
+        if (this.versions() == null) {
+            return Collections.unmodifiableMap(this.map);
+        }
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
+            values.put(entry.getKey(), this.read(entry.getKey(), entry.getValue()));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
     @Override
     public final boolean contains(@NotNull final String path) {
         return this.contains(path, false);
@@ -208,7 +267,8 @@ public class MemorySection implements ConfigurationSection {
     @Override
     @NotNull
     public final String getCurrentPath() {
-        return this.fullPath;
+        // built on demand, it is rarely needed and would be kept for every section otherwise
+        return this.parent == null ? "" : MemorySection.createPath(this.parent, this.path);
     }
 
     @Override
@@ -244,6 +304,18 @@ public class MemorySection implements ConfigurationSection {
         if (this.root == null) {
             throw new IllegalStateException("Cannot access section without a root");
         }
+        if (this.index != null && this.index.covers(path)) {
+            final Object result = this.index.entries.get(path);
+            // a list may be shared with a snapshot or fork, and a missing path may be in a section which is not
+            // indexed, which the walk below takes care of
+            if (result == null) {
+                if (this.index.unindexed == 0) {
+                    return def;
+                }
+            } else if (!(result instanceof List) || this.versions() == null) {
+                return result;
+            }
+        }
         final char separator = this.root.options().pathSeparator();
         // i1 is the leading (higher) index
         // i2 is the trailing (lower) index
@@ -258,7 +330,7 @@ public class MemorySection implements ConfigurationSection {
         }
         final String key = path.substring(i2);
         if (section.equals(this)) {
-            final Object result = this.map.get(key);
+            final Object result = this.read(key, this.map.get(key));
             if (result == null) {
                 return def;
             }
@@ -296,11 +368,7 @@ public class MemorySection implements ConfigurationSection {
 
         final String key = path.substring(i2);
         if (Objects.equals(section, this)) {
-            if (value == null) {
-                this.map.remove(key);
-            } else {
-                this.map.put(key, value);
-            }
+            this.store(key, value);
         } else {
             section.set(key, value);
         }
@@ -333,7 +401,7 @@ public class MemorySection implements ConfigurationSection {
         final String key = path.substring(i2);
         if (Objects.equals(section, this)) {
             final ConfigurationSection result = new MemorySection(this, key);
-            this.map.put(key, result);
+            this.store(key, result);
             return result;
         }
         return section.createSection(key);
@@ -384,8 +452,11 @@ public class MemorySection implements ConfigurationSection {
 
     @Override
     public final int getInt(@NotNull final String path, final int def) {
-        final Object val = this.get(path, def);
-        return GeneralUtilities.toInt(val).orElse(def);
+        final Object val = this.get(path, null);
+        if (val instanceof Number) {
+            return ((Number) val).intValue();
+        }
+        return val == null ? def : GeneralUtilities.toInt(val).orElse(def);
     }
 
     @Override
@@ -402,8 +473,11 @@ public class MemorySection implements ConfigurationSection {
 
     @Override
     public final boolean getBoolean(@NotNull final String path, final boolean def) {
-        final Object val = this.get(path, def);
-        return GeneralUtilities.toBoolean(val).orElse(def);
+        final Object val = this.get(path, null);
+        if (val instanceof Boolean) {
+            return (Boolean) val;
+        }
+        return val == null ? def : GeneralUtilities.toBoolean(val).orElse(def);
     }
 
     @Override
@@ -420,8 +494,11 @@ public class MemorySection implements ConfigurationSection {
 
     @Override
     public final float getFloat(@NotNull final String path, final float def) {
-        final Object val = this.get(path, def);
-        return GeneralUtilities.toFloat(val).orElse(def);
+        final Object val = this.get(path, null);
+        if (val instanceof Number) {
+            return ((Number) val).floatValue();
+        }
+        return val == null ? def : GeneralUtilities.toFloat(val).orElse(def);
     }
 
     @Override
@@ -432,8 +509,11 @@ public class MemorySection implements ConfigurationSection {
 
     @Override
     public final double getDouble(@NotNull final String path, final double def) {
-        final Object val = this.get(path, def);
-        return GeneralUtilities.toDouble(val).orElse(def);
+        final Object val = this.get(path, null);
+        if (val instanceof Number) {
+            return ((Number) val).doubleValue();
+        }
+        return val == null ? def : GeneralUtilities.toDouble(val).orElse(def);
     }
 
     @Override
@@ -450,8 +530,11 @@ public class MemorySection implements ConfigurationSection {
 
     @Override
     public final long getLong(@NotNull final String path, final long def) {
-        final Object val = this.get(path, def);
-        return GeneralUtilities.toLong(val).orElse(def);
+        final Object val = this.get(path, null);
+        if (val instanceof Number) {
+            return ((Number) val).longValue();
+        }
+        return val == null ? def : GeneralUtilities.toLong(val).orElse(def);
     }
 
     @Override
@@ -510,6 +593,11 @@ public class MemorySection implements ConfigurationSection {
             return new ArrayList<>(0);
         }
 
+        if (list instanceof PrimitiveList.Ints && ((PrimitiveList) list).primitive()) {
+            // noinspection unchecked
+            return new ArrayList<>((List<Integer>) list);
+        }
+
         final List<Integer> result = new ArrayList<>();
 
         for (final Object object : list) {
@@ -567,6 +655,11 @@ public class MemorySection implements ConfigurationSection {
             return new ArrayList<>(0);
         }
 
+        if (list instanceof PrimitiveList.Doubles && ((PrimitiveList) list).primitive()) {
+            // noinspection unchecked
+            return new ArrayList<>((List<Double>) list);
+        }
+
         final List<Double> result = new ArrayList<>();
 
         for (final Object object : list) {
@@ -627,6 +720,11 @@ public class MemorySection implements ConfigurationSection {
             return new ArrayList<>(0);
         }
 
+        if (list instanceof PrimitiveList.Longs && ((PrimitiveList) list).primitive()) {
+            // noinspection unchecked
+            return new ArrayList<>((List<Long>) list);
+        }
+
         final List<Long> result = new ArrayList<>();
 
         for (final Object object : list) {
@@ -759,6 +857,60 @@ public class MemorySection implements ConfigurationSection {
         return result;
     }
 
+    @Override
+    @NotNull
+    public final int[] getIntArray(@NotNull final String path) {
+        final List<?> list = this.getList(path);
+        final List<?> stored = list instanceof Versions.ReadOnlyList ? ((Versions.ReadOnlyList) list).list : list;
+        final int[] array = stored instanceof PrimitiveList.Ints ? ((PrimitiveList.Ints) stored).values() : null;
+        if (array != null) {
+            // the array of a snapshot is copied, as changing it would change the snapshot
+            return stored == list ? array : array.clone();
+        }
+        final List<Integer> values = this.getIntegerList(path);
+        final int[] result = new int[values.size()];
+        for (int index = 0; index < result.length; index++) {
+            result[index] = values.get(index);
+        }
+        return result;
+    }
+
+    @Override
+    @NotNull
+    public final long[] getLongArray(@NotNull final String path) {
+        final List<?> list = this.getList(path);
+        final List<?> stored = list instanceof Versions.ReadOnlyList ? ((Versions.ReadOnlyList) list).list : list;
+        final long[] array = stored instanceof PrimitiveList.Longs ? ((PrimitiveList.Longs) stored).values() : null;
+        if (array != null) {
+            // the array of a snapshot is copied, as changing it would change the snapshot
+            return stored == list ? array : array.clone();
+        }
+        final List<Long> values = this.getLongList(path);
+        final long[] result = new long[values.size()];
+        for (int index = 0; index < result.length; index++) {
+            result[index] = values.get(index);
+        }
+        return result;
+    }
+
+    @Override
+    @NotNull
+    public final double[] getDoubleArray(@NotNull final String path) {
+        final List<?> list = this.getList(path);
+        final List<?> stored = list instanceof Versions.ReadOnlyList ? ((Versions.ReadOnlyList) list).list : list;
+        final double[] array = stored instanceof PrimitiveList.Doubles ? ((PrimitiveList.Doubles) stored).values() : null;
+        if (array != null) {
+            // the array of a snapshot is copied, as changing it would change the snapshot
+            return stored == list ? array : array.clone();
+        }
+        final List<Double> values = this.getDoubleList(path);
+        final double[] result = new double[values.size()];
+        for (int index = 0; index < result.length; index++) {
+            result[index] = values.get(index);
+        }
+        return result;
+    }
+
     // Bukkit
     @Nullable
     @Override
@@ -783,7 +935,12 @@ public class MemorySection implements ConfigurationSection {
         }
 
         val = this.get(path, this.getDefault(path));
-        return val instanceof ConfigurationSection ? this.createSection(path) : null;
+        if (!(val instanceof ConfigurationSection)) {
+            return null;
+        }
+        // a snapshot cannot take the section in, so it gives the one of the defaults
+        final Versions versions = this.versions();
+        return versions != null && versions.frozen ? (ConfigurationSection) val : this.createSection(path);
     }
 
     @Override
@@ -818,6 +975,18 @@ public class MemorySection implements ConfigurationSection {
         this.root.addDefault(MemorySection.createPath(this, path), value);
     }
 
+    @Override
+    @NotNull
+    public final Configuration snapshot() {
+        return this.share(true);
+    }
+
+    @Override
+    @NotNull
+    public final MemoryConfiguration fork() {
+        return this.share(false);
+    }
+
     @Override
     public final String toString() {
         final Configuration root = this.getRoot();
@@ -831,6 +1000,444 @@ public class MemorySection implements ConfigurationSection {
             .toString();
     }
 
+    // Compiled paths
+    @Override
+    public final boolean contains(@NotNull final ConfigPath path) {
+        return this.get(path) != null;
+    }
+
+    @Override
+    @Nullable
+    public final Object get(@NotNull final ConfigPath path) {
+        final Object value = this.find(path);
+        if (value != null || this.root == null || this.root.getDefaults() == null) {
+            return value;
+        }
+        return this.getDefault(path.in(this));
+    }
+
+    @Override
+    @Nullable
+    public final Object get(@NotNull final ConfigPath path, @Nullable final Object def) {
+        final Object value = this.find(path);
+        return value == null ? def : value;
+    }
+
+    @Override
+    public final void set(@NotNull final ConfigPath path, @Nullable final Object value) {
+        final MemorySection section = this.parentOf(path, value != null);
+        if (section == null) {
+            return;
+        }
+        section.store(path.key(path.size() - 1), value);
+    }
+
+    @Override
+    @NotNull
+    public final ConfigurationSection createSection(@NotNull final ConfigPath path) {
+        final MemorySection section = Objects.requireNonNull(this.parentOf(path, true));
+        final String key = path.key(path.size() - 1);
+        final ConfigurationSection result = new MemorySection(section, key);
+        section.store(key, result);
+        return result;
+    }
+
+    @Override
+    @Nullable
+    public final String getString(@NotNull final ConfigPath path, @Nullable final String def) {
+        final Object val = this.find(path);
+        return val != null ? val.toString() : def;
+    }
+
+    @Override
+    public final int getInt(@NotNull final ConfigPath path, final int def) {
+        final Object val = this.find(path);
+        if (val instanceof Number) {
+            return ((Number) val).intValue();
+        }
+        return val == null ? def : GeneralUtilities.toInt(val).orElse(def);
+    }
+
+    @Override
+    public final boolean getBoolean(@NotNull final ConfigPath path, final boolean def) {
+        final Object val = this.find(path);
+        if (val instanceof Boolean) {
+            return (Boolean) val;
+        }
+        return val == null ? def : GeneralUtilities.toBoolean(val).orElse(def);
+    }
+
+    @Override
+    public final double getDouble(@NotNull final ConfigPath path, final double def) {
+        final Object val = this.find(path);
+        if (val instanceof Number) {
+            return ((Number) val).doubleValue();
+        }
+        return val == null ? def : GeneralUtilities.toDouble(val).orElse(def);
+    }
+
+    @Override
+    public final long getLong(@NotNull final ConfigPath path, final long def) {
+        final Object val = this.find(path);
+        if (val instanceof Number) {
+            return ((Number) val).longValue();
+        }
+        return val == null ? def : GeneralUtilities.toLong(val).orElse(def);
+    }
+
+    @Override
+    @Nullable
+    public final ConfigurationSection getConfigurationSection(@NotNull final ConfigPath path) {
+        final Object val = this.find(path);
+        if (val != null || this.root == null || this.root.getDefaults() == null) {
+            return val instanceof ConfigurationSection ? (ConfigurationSection) val : null;
+        }
+        return this.getConfigurationSection(path.in(this));
+    }
+
+    /**
+     * Gives the value of the key from what is stored for it in this section. Every value is read through
+     * this method, so a section may store placeholders and produce the values only when they are needed.
+     *
+     * @param key The key of the value.
+     * @param stored What is stored for the key, null if nothing is.
+     * @return The value of the key.
+     */
+    @Nullable
+    protected Object resolve(@NotNull final String key, @Nullable final Object stored) {
+        return stored;
+    }
+
+    /**
+     * Called on the root whenever a value is set, removed or replaced by a new section, either in the root
+     * itself or in any of its sub-sections. Does nothing by default.
+     *
+     * @param section The section whose value changed.
+     */
+    protected void onChange(@NotNull final ConfigurationSection section) {
+    }
+
+    /**
+     * Called on the root whenever a list of the root or of any of its sub-sections is given to a caller, which
+     * may change it in place without setting it again. Does nothing by default.
+     *
+     * @param section The section the list is in.
+     * @param key The key of the list in the section.
+     * @param list The list given to the caller.
+     */
+    protected void onListRead(@NotNull final ConfigurationSection section, @NotNull final String key,
+                              @NotNull final List<?> list) {
+    }
+
+    /**
+     * Called on the root before a snapshot or fork is taken of it or of any of its sub-sections, to store in its
+     * sections whatever it keeps elsewhere. Does nothing by default.
+     */
+    protected void beforeSnapshot() {
+    }
+
+    /**
+     * Builds the index of the paths of this root again, or drops it.
+     *
+     * @param enabled Whether the paths should be indexed.
+     */
+    final void indexPaths(final boolean enabled) {
+        if (this.root != this) {
+            return;
+        }
+        if (this.index != null) {
+            // the sections still refer to the old index, which must not keep the values
+            this.index.entries.clear();
+            this.index = null;
+        }
+        if (!enabled) {
+            return;
+        }
+        this.index = new PathIndex(this.root.options().pathSeparator());
+        this.index.add(this, null);
+    }
+
+    /**
+     * Sets or removes the value of the key of this section, keeping the index of the root up to date. Lists of
+     * numbers of a single type are stored as {@link PrimitiveList}s.
+     *
+     * @param key The key of the value.
+     * @param value The new value, null to remove it.
+     */
+    private void store(@NotNull final String key, @Nullable final Object stored) {
+        final Object value = PrimitiveList.compact(stored);
+        final Map<String, Object> map = this.own();
+        final Object old = value == null ? map.remove(key) : map.put(key, value);
+        final PathIndex current = this.root instanceof MemorySection ? ((MemorySection) this.root).index : null;
+        if (current != null && this.indexedIn == current && key.indexOf(current.separator) == -1) {
+            final String path = current.path(this.indexPath, key);
+            if (old instanceof ConfigurationSection) {
+                if (PathIndex.owns(this, key, old)) {
+                    current.remove((MemorySection) old);
+                } else {
+                    current.unindexed--;
+                }
+            }
+            if (value == null) {
+                current.entries.remove(path);
+            } else {
+                current.entries.put(path, value);
+                if (value instanceof ConfigurationSection) {
+                    if (PathIndex.owns(this, key, value)) {
+                        current.add((MemorySection) value, path);
+                    } else {
+                        current.unindexed++;
+                    }
+                }
+            }
+        }
+        this.changed();
+    }
+
+    /**
+     * Gives the map of this section to change, after replacing it by a copy if a snapshot or fork may read it,
+     * which is the case before the first change in a version of the tree.
+     *
+     * @return The map of this section.
+     */
+    @NotNull
+    private Map<String, Object> own() {
+        final Versions versions = this.versions();
+        if (versions == null) {
+            return this.map;
+        }
+        if (versions.frozen) {
+            throw new UnsupportedOperationException("Cannot change a snapshot");
+        }
+        if (this.stamp != versions.current) {
+            // the readers of the map check the stamp, so it is set between keeping the map and replacing it
+            final Map<String, Object> map = this.map;
+            this.history = versions.keep(this.history, this.stamp, map);
+            this.stamp = versions.current;
+            this.map = MemorySection.copyOf(map);
+        }
+        return this.map;
+    }
+
+    /**
+     * Gives the map this section had in the version of the tree, which may be read from any thread.
+     *
+     * @param version The version of the tree.
+     * @return The map of the version.
+     */
+    @NotNull
+    private Map<String, Object> stateAt(final int version) {
+        final int stamp = this.stamp;
+        final Map<String, Object> map = this.map;
+        if (stamp <= version && stamp == this.stamp) {
+            return map;
+        }
+        for (Versions.History entry = this.history; entry != null; entry = entry.next) {
+            if (entry.stamp <= version) {
+                return entry.map;
+            }
+        }
+        throw new IllegalStateException("The version " + version + " of the section " + this.path + " is not kept");
+    }
+
+    /**
+     * Gives the value of the key from what is stored for it, through {@link #resolve(String, Object)}. A section
+     * which a snapshot or fork shares with the tree it was taken from is given as a section of the snapshot or
+     * fork, which a fork keeps in place of the shared one.
+     */
+    @Nullable
+    private Object value(@NotNull final String key, @Nullable final Object stored) {
+        final Object value = this.resolve(key, stored);
+        if (!(value instanceof MemorySection) || ((MemorySection) value).root == this.root) {
+            return value;
+        }
+        final Versions versions = this.versions();
+        final Versions.Source source = versions == null ? null : versions.find(((MemorySection) value).root);
+        if (source == null) {
+            return value;
+        }
+        final MemorySection section = new MemorySection(this, key, ((MemorySection) value).stateAt(source.version));
+        if (!versions.frozen) {
+            this.own().put(key, section);
+        }
+        return section;
+    }
+
+    /**
+     * Gives the value of the key like {@link #value(String, Object)}, to a caller which may change the list it is
+     * given. A snapshot gives its lists read-only, and a tree or fork owns this section first if its lists may
+     * still be shared, which copies them.
+     */
+    @Nullable
+    private Object read(@NotNull final String key, @Nullable final Object stored) {
+        final Object value = this.value(key, stored);
+        if (!(value instanceof List)) {
+            return value;
+        }
+        if (this.root instanceof MemorySection) {
+            ((MemorySection) this.root).onListRead(this, key, (List<?>) value);
+        }
+        final Versions versions = this.versions();
+        if (versions == null) {
+            return value;
+        }
+        if (versions.frozen) {
+            return new Versions.ReadOnlyList((List<?>) value);
+        }
+        if (this.stamp == versions.current) {
+            return value;
+        }
+        return this.own().get(key);
+    }
+
+    @Nullable
+    private Versions versions() {
+        return this.root instanceof MemoryConfiguration ? ((MemoryConfiguration) this.root).versions : null;
+    }
+
+    /**
+     * Copies the map of a section for a new version, with copies of its lists, which can be changed without
+     * being set again and so cannot be shared with the older versions.
+     */
+    @NotNull
+    private static Map<String, Object> copyOf(@NotNull final Map<String, Object> map) {
+        final Map<String, Object> copy = CompactMap.copyOf(map);
+        for (final Map.Entry<String, Object> entry : copy.entrySet()) {
+            if (entry.getValue() instanceof List) {
+                entry.setValue(MemorySection.copyValue(entry.getValue()));
+            }
+        }
+        return copy;
+    }
+
+    @Nullable
+    private static Object copyValue(@Nullable final Object value) {
+        if (value instanceof PrimitiveList && ((PrimitiveList) value).primitive()) {
+            return ((PrimitiveList) value).copy();
+        }
+        if (value instanceof List) {
+            final List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (final Object element : (List<?>) value) {
+                copy.add(MemorySection.copyValue(element));
+            }
+            return copy;
+        }
+        if (value instanceof Map) {
+            final Map<Object, Object> copy = new LinkedHashMap<>();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                copy.put(entry.getKey(), MemorySection.copyValue(entry.getValue()));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    @NotNull
+    private MemoryConfiguration share(final boolean frozen) {
+        if (!(this.root instanceof MemoryConfiguration)) {
+            throw new IllegalStateException("Cannot share a section without a memory root");
+        }
+        final MemoryConfiguration tree = (MemoryConfiguration) this.root;
+        tree.beforeSnapshot();
+        if (tree.versions == null) {
+            tree.versions = new Versions(null, false);
+        }
+        final Versions.Source source = tree.versions.frozen ? tree.versions.base : tree.versions.read(tree);
+        final MemoryConfiguration configuration = new MemoryConfiguration(tree == this ? tree.getDefaults() : null);
+        configuration.options()
+            .pathSeparator(tree.options().pathSeparator())
+            .copyDefaults(tree.options().copyDefaults());
+        configuration.versions = new Versions(source, frozen);
+        final MemorySection shared = configuration;
+        shared.map = this.map;
+        shared.stamp = -1;
+        return configuration;
+    }
+
+    private void changed() {
+        if (this.root instanceof MemorySection) {
+            ((MemorySection) this.root).onChange(this);
+        }
+    }
+
+    /**
+     * Walks the keys of the path from this section, without consulting the defaults.
+     *
+     * @param path The path to walk.
+     * @return The value at the path, or null if there is none.
+     */
+    @Nullable
+    private Object find(@NotNull final ConfigPath path) {
+        if (this.root == null) {
+            throw new IllegalStateException("Cannot access section without a root");
+        }
+        Object value = this;
+        for (int index = 0; index < path.size(); index++) {
+            if (!(value instanceof ConfigurationSection)) {
+                return null;
+            }
+            value = MemorySection.local((ConfigurationSection) value, path.key(index));
+        }
+        return value;
+    }
+
+    /**
+     * Walks the keys of the path but the last one from this section, creating the missing sections if asked to.
+     *
+     * @param path The path to walk.
+     * @param create Whether to create the missing sections.
+     * @return The section of the last key of the path, or null if it is missing and not created.
+     */
+    @Nullable
+    private MemorySection parentOf(@NotNull final ConfigPath path, final boolean create) {
+        if (this.root == null) {
+            throw new IllegalStateException("Cannot use section without a root");
+        }
+        if (path.size() == 0) {
+            throw new IllegalArgumentException("Cannot use an empty path");
+        }
+        MemorySection section = this;
+        for (int index = 0; index < path.size() - 1; index++) {
+            final String key = path.key(index);
+            final Object value = MemorySection.local(section, key);
+            if (value instanceof MemorySection) {
+                section = (MemorySection) value;
+            } else if (create) {
+                final MemorySection child = new MemorySection(section, key);
+                section.store(key, child);
+                section = child;
+            } else {
+                return null;
+            }
+        }
+        return section;
+    }
+
+    /**
+     * Gets the path of the key of the section relative to this section, from the index if this is an indexing
+     * root.
+     */
+    @NotNull
+    private String childPath(@NotNull final MemorySection section, @NotNull final String key) {
+        if (this.index != null && section.indexedIn == this.index
+            && key.indexOf(this.index.separator) == -1) {
+            final String path = this.index.path(section.indexPath, key);
+            if (this.index.covers(path)) {
+                return path;
+            }
+        }
+        return MemorySection.createPath(section, key, this);
+    }
+
+    @Nullable
+    private static Object local(@NotNull final ConfigurationSection section, @NotNull final String key) {
+        if (section instanceof MemorySection) {
+            final MemorySection memory = (MemorySection) section;
+            return memory.read(key, memory.map.get(key));
+        }
+        return section.get(key, null);
+    }
+
     @Nullable
     protected final Object getDefault(@NotNull final String path) {
         final Configuration root = this.getRoot();
@@ -843,11 +1450,13 @@ public class MemorySection implements ConfigurationSection {
             final MemorySection sec = (MemorySection) section;
 
             for (final Map.Entry<String, Object> entry : sec.map.entrySet()) {
-                output.add(MemorySection.createPath(section, entry.getKey(), this));
+                output.add(this.childPath(sec, entry.getKey()));
 
-                if (deep && entry.getValue() instanceof ConfigurationSection) {
-                    final ConfigurationSection subsection = (ConfigurationSection) entry.getValue();
-                    this.mapChildrenKeys(output, subsection, deep);
+                if (deep) {
+                    final Object value = sec.value(entry.getKey(), entry.getValue());
+                    if (value instanceof ConfigurationSection) {
+                        this.mapChildrenKeys(output, (ConfigurationSection) value, deep);
+                    }
                 }
             }
         } else {
@@ -867,13 +1476,14 @@ public class MemorySection implements ConfigurationSection {
                 // Because from the copyDefaults call potentially copying out from order, we must remove and then add in our saved order
                 // This means that default values we haven't set end up getting placed first
                 // See SPIGOT-4558 for an example using spigot.yml - watch subsections move around to default order
-                final String childPath = MemorySection.createPath(section, entry.getKey(), this);
+                final String childPath = this.childPath(sec, entry.getKey());
+                final Object value = sec.read(entry.getKey(), entry.getValue());
                 output.remove(childPath);
-                output.put(childPath, entry.getValue());
+                output.put(childPath, value);
 
-                if (entry.getValue() instanceof ConfigurationSection) {
+                if (value instanceof ConfigurationSection) {
                     if (deep) {
-                        this.mapChildrenValues(output, (ConfigurationSection) entry.getValue(), deep);
+                        this.mapChildrenValues(output, (ConfigurationSection) value, deep);
                     }
                 }
             }
@@ -886,4 +1496,99 @@ public class MemorySection implements ConfigurationSection {
         }
     }
 
+    /**
+     * The full paths of the values and sections of a root, for a single lookup per path.
+     */
+    private static final class PathIndex {
+
+        private final Map<String, Object> entries = new HashMap<>();
+
+        private final char separator;
+
+        /**
+         * The number of sections in the tree whose values are not indexed, as they were created in another tree
+         * or at another path and are changed from there, so a path missing from the index may still be in them.
+         */
+        private int unindexed;
+
+        private PathIndex(final char separator) {
+            this.separator = separator;
+        }
+
+        /**
+         * Checks if the path has no empty keys, which the walk through the sections resolves to the section
+         * they are in rather than to a value.
+         */
+        private boolean covers(@NotNull final String path) {
+            final int last = path.length() - 1;
+            if (path.charAt(0) == this.separator || path.charAt(last) == this.separator) {
+                return false;
+            }
+            for (int index = 1; index < last; index++) {
+                if (path.charAt(index) == this.separator && path.charAt(index + 1) == this.separator) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @NotNull
+        private String path(@Nullable final String parent, @NotNull final String key) {
+            return parent == null ? key : parent + this.separator + key;
+        }
+
+        /**
+         * Checks if the value is a section which was created for the key of the section, whose changes then go
+         * through the section to the index. Any other section keeps its values to itself.
+         */
+        private static boolean owns(@NotNull final MemorySection section, @NotNull final String key,
+                                    @Nullable final Object value) {
+            return value instanceof MemorySection && ((MemorySection) value).parent == section
+                && key.equals(((MemorySection) value).path);
+        }
+
+        /**
+         * Adds the section and everything in it. Keys with the separator are left out, as no path can reach them.
+         */
+        private void add(@NotNull final MemorySection section, @Nullable final String path) {
+            section.indexedIn = this;
+            section.indexPath = path;
+            for (final Map.Entry<String, Object> entry : section.map.entrySet()) {
+                if (entry.getKey().indexOf(this.separator) == -1) {
+                    final String child = this.path(path, entry.getKey());
+                    final Object value = section.value(entry.getKey(), entry.getValue());
+                    this.entries.put(child, value);
+                    if (value instanceof ConfigurationSection) {
+                        if (PathIndex.owns(section, entry.getKey(), value)) {
+                            this.add((MemorySection) value, child);
+                        } else {
+                            this.unindexed++;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Removes everything in the section, which is no longer in the tree.
+         */
+        private void remove(@NotNull final MemorySection section) {
+            for (final Map.Entry<String, Object> entry : section.map.entrySet()) {
+                if (entry.getKey().indexOf(this.separator) == -1) {
+                    this.entries.remove(this.path(section.indexPath, entry.getKey()));
+                    if (entry.getValue() instanceof ConfigurationSection) {
+                        if (PathIndex.owns(section, entry.getKey(), entry.getValue())) {
+                            this.remove((MemorySection) entry.getValue());
+                        } else {
+                            this.unindexed--;
+                        }
+                    }
+                }
+            }
+            section.indexedIn = null;
+            section.indexPath = null;
+        }
+
+    }
+
 }
@@ -0,0 +1,442 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free from charge, to any person obtaining a copy
+ * from this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies from the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions from the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.configs.configuration;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A list of numbers of a single type which keeps them in an array of their primitive type, so it takes a
+ * fraction of the heap of a list of boxed numbers and its array can be read without boxing.
+ * <p>
+ * The list can be changed like any other list. Elements of its own type go into the array, which is replaced
+ * by a new one of the right length on every addition or removal, which suits lists which are read much more
+ * than they are changed. Any other element, null included, moves the elements into an {@link ArrayList} which
+ * holds them from then on, as the list would have been without being compacted.
+ */
+abstract class PrimitiveList extends AbstractList<Object> implements RandomAccess {
+
+    /**
+     * The list holding the elements after the promotion, null before it.
+     */
+    @Nullable
+    private List<Object> promoted;
+
+    /**
+     * Gives a primitive list with the elements of the value if it is a non-empty list of only Integers, only
+     * Longs or only Doubles, or the value itself otherwise.
+     *
+     * @param value Value to compact.
+     * @return The primitive list, or the value.
+     */
+    @Nullable
+    static Object compact(@Nullable final Object value) {
+        if (!(value instanceof List) || value instanceof PrimitiveList || ((List<?>) value).isEmpty()) {
+            return value;
+        }
+        final List<?> list = (List<?>) value;
+        final Object first = list.get(0);
+        if (first == null) {
+            return value;
+        }
+        final Class<?> type = first.getClass();
+        if (type != Integer.class && type != Long.class && type != Double.class) {
+            return value;
+        }
+        for (final Object element : list) {
+            if (element == null || element.getClass() != type) {
+                return value;
+            }
+        }
+        final int size = list.size();
+        if (type == Integer.class) {
+            final int[] values = new int[size];
+            for (int index = 0; index < size; index++) {
+                values[index] = (Integer) list.get(index);
+            }
+            return new Ints(values);
+        }
+        if (type == Long.class) {
+            final long[] values = new long[size];
+            for (int index = 0; index < size; index++) {
+                values[index] = (Long) list.get(index);
+            }
+            return new Longs(values);
+        }
+        final double[] values = new double[size];
+        for (int index = 0; index < size; index++) {
+            values[index] = (Double) list.get(index);
+        }
+        return new Doubles(values);
+    }
+
+    @Override
+    public final Object get(final int index) {
+        return this.promoted == null ? this.element(index) : this.promoted.get(index);
+    }
+
+    @Override
+    public final Object set(final int index, @Nullable final Object element) {
+        if (this.promoted == null && this.accepts(element)) {
+            return this.replace(index, element);
+        }
+        return this.promote().set(index, element);
+    }
+
+    @Override
+    public final void add(final int index, @Nullable final Object element) {
+        if (this.promoted == null && this.accepts(element)) {
+            if (index < 0 || index > this.length()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.length());
+            }
+            this.insert(index, element);
+        } else {
+            this.promote().add(index, element);
+        }
+        this.modCount++;
+    }
+
+    @Override
+    public final Object remove(final int index) {
+        final Object old = this.promoted == null ? this.delete(index) : this.promoted.remove(index);
+        this.modCount++;
+        return old;
+    }
+
+    @Override
+    public final void clear() {
+        this.promoted = new ArrayList<>();
+        this.release();
+        this.modCount++;
+    }
+
+    @Override
+    public final int size() {
+        return this.promoted == null ? this.length() : this.promoted.size();
+    }
+
+    /**
+     * Checks if the list still keeps its elements in its array.
+     *
+     * @return True if the elements are in the array.
+     */
+    final boolean primitive() {
+        return this.promoted == null;
+    }
+
+    /**
+     * Copies the list, which must still keep its elements in its array.
+     *
+     * @return The copy.
+     */
+    @NotNull
+    abstract PrimitiveList copy();
+
+    /**
+     * Checks if the element can go into the array.
+     */
+    abstract boolean accepts(@Nullable Object element);
+
+    @NotNull
+    abstract Object element(int index);
+
+    @NotNull
+    abstract Object replace(int index, @NotNull Object element);
+
+    abstract void insert(int index, @NotNull Object element);
+
+    @NotNull
+    abstract Object delete(int index);
+
+    abstract int length();
+
+    /**
+     * Drops the array, after its elements were moved.
+     */
+    abstract void release();
+
+    @NotNull
+    private List<Object> promote() {
+        if (this.promoted != null) {
+            return this.promoted;
+        }
+        final int length = this.length();
+        final List<Object> list = new ArrayList<>(length + 1);
+        for (int index = 0; index < length; index++) {
+            list.add(this.element(index));
+        }
+        this.release();
+        this.promoted = list;
+        return list;
+    }
+
+    /**
+     * A list of ints.
+     */
+    static final class Ints extends PrimitiveList {
+
+        private static final int[] EMPTY = new int[0];
+
+        @NotNull
+        private int[] values;
+
+        Ints(@NotNull final int[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Gets the array of the elements, which is the list itself, not a copy.
+         *
+         * @return The elements, or null if the list holds other elements too.
+         */
+        @Nullable
+        int[] values() {
+            return this.primitive() ? this.values : null;
+        }
+
+        @NotNull
+        @Override
+        PrimitiveList copy() {
+            return new Ints(this.values.clone());
+        }
+
+        @Override
+        boolean accepts(@Nullable final Object element) {
+            return element instanceof Integer;
+        }
+
+        @NotNull
+        @Override
+        Object element(final int index) {
+            return this.values[index];
+        }
+
+        @NotNull
+        @Override
+        Object replace(final int index, @NotNull final Object element) {
+            final int old = this.values[index];
+            this.values[index] = (Integer) element;
+            return old;
+        }
+
+        @Override
+        void insert(final int index, @NotNull final Object element) {
+            final int[] values = new int[this.values.length + 1];
+            System.arraycopy(this.values, 0, values, 0, index);
+            values[index] = (Integer) element;
+            System.arraycopy(this.values, index, values, index + 1, this.values.length - index);
+            this.values = values;
+        }
+
+        @NotNull
+        @Override
+        Object delete(final int index) {
+            final int old = this.values[index];
+            final int[] values = new int[this.values.length - 1];
+            System.arraycopy(this.values, 0, values, 0, index);
+            System.arraycopy(this.values, index + 1, values, index, values.length - index);
+            this.values = values;
+            return old;
+        }
+
+        @Override
+        int length() {
+            return this.values.length;
+        }
+
+        @Override
+        void release() {
+            this.values = Ints.EMPTY;
+        }
+
+    }
+
+    /**
+     * A list of longs.
+     */
+    static final class Longs extends PrimitiveList {
+
+        private static final long[] EMPTY = new long[0];
+
+        @NotNull
+        private long[] values;
+
+        Longs(@NotNull final long[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Gets the array of the elements, which is the list itself, not a copy.
+         *
+         * @return The elements, or null if the list holds other elements too.
+         */
+        @Nullable
+        long[] values() {
+            return this.primitive() ? this.values : null;
+        }
+
+        @NotNull
+        @Override
+        PrimitiveList copy() {
+            return new Longs(this.values.clone());
+        }
+
+        @Override
+        boolean accepts(@Nullable final Object element) {
+            return element instanceof Long;
+        }
+
+        @NotNull
+        @Override
+        Object element(final int index) {
+            return this.values[index];
+        }
+
+        @NotNull
+        @Override
+        Object replace(final int index, @NotNull final Object element) {
+            final long old = this.values[index];
+            this.values[index] = (Long) element;
+            return old;
+        }
+
+        @Override
+        void insert(final int index, @NotNull final Object element) {
+            final long[] values = new long[this.values.length + 1];
+            System.arraycopy(this.values, 0, values, 0, index);
+            values[index] = (Long) element;
+            System.arraycopy(this.values, index, values, index + 1, this.values.length - index);
+            this.values = values;
+        }
+
+        @NotNull
+        @Override
+        Object delete(final int index) {
+            final long old = this.values[index];
+            final long[] values = new long[this.values.length - 1];
+            System.arraycopy(this.values, 0, values, 0, index);
+            System.arraycopy(this.values, index + 1, values, index, values.length - index);
+            this.values = values;
+            return old;
+        }
+
+        @Override
+        int length() {
+            return this.values.length;
+        }
+
+        @Override
+        void release() {
+            this.values = Longs.EMPTY;
+        }
+
+    }
+
+    /**
+     * A list of doubles.
+     */
+    static final class Doubles extends PrimitiveList {
+
+        private static final double[] EMPTY = new double[0];
+
+        @NotNull
+        private double[] values;
+
+        Doubles(@NotNull final double[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Gets the array of the elements, which is the list itself, not a copy.
+         *
+         * @return The elements, or null if the list holds other elements too.
+         */
+        @Nullable
+        double[] values() {
+            return this.primitive() ? this.values : null;
+        }
+
+        @NotNull
+        @Override
+        PrimitiveList copy() {
+            return new Doubles(this.values.clone());
+        }
+
+        @Override
+        boolean accepts(@Nullable final Object element) {
+            return element instanceof Double;
+        }
+
+        @NotNull
+        @Override
+        Object element(final int index) {
+            return this.values[index];
+        }
+
+        @NotNull
+        @Override
+        Object replace(final int index, @NotNull final Object element) {
+            final double old = this.values[index];
+            this.values[index] = (Double) element;
+            return old;
+        }
+
+        @Override
+        void insert(final int index, @NotNull final Object element) {
+            final double[] values = new double[this.values.length + 1];
+            System.arraycopy(this.values, 0, values, 0, index);
+            values[index] = (Double) element;
+            System.arraycopy(this.values, index, values, index + 1, this.values.length - index);
+            this.values = values;
+        }
+
+        @NotNull
+        @Override
+        Object delete(final int index) {
+            final double old = this.values[index];
+            final double[] values = new double[this.values.length - 1];
+            System.arraycopy(this.values, 0, values, 0, index);
+            System.arraycopy(this.values, index + 1, values, index, values.length - index);
+            this.values = values;
+            return old;
+        }
+
+        @Override
+        int length() {
+            return this.values.length;
+        }
+
+        @Override
+        void release() {
+            this.values = Doubles.EMPTY;
+        }
+
+    }
+
+}
@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free from charge, to any person obtaining a copy
+ * from this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies from the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions from the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.configs.configuration;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The versions of a tree of sections, which let its snapshots and forks share the maps of its sections instead
+ * of copying them.
+ * <p>
+ * A snapshot or fork reads the tree as it is in the current version, and the tree moves on to the next version.
+ * A section copies its map before its first change in a version, so a map is never changed once a later version
+ * started, and the snapshots can read it from any thread. The maps replaced this way are kept in the history of
+ * the section as long as a snapshot or fork of their versions is still in use.
+ * <p>
+ * A list can be changed without being set again, so a section copies its lists along with its map, and gives
+ * a list only once it has done so in the current version; a snapshot gives its lists read-only. Lists given out
+ * before a snapshot was taken are still shared with it, so they should be got again.
+ * <p>
+ * The tree, its snapshots and its forks must be taken and changed by the thread which changes the tree, and
+ * getting a list from the tree or a fork counts as changing it.
+ */
+final class Versions {
+
+    /**
+     * The trees the sections of this tree are read from, with their versions, null if this tree is neither a
+     * snapshot nor a fork.
+     */
+    @Nullable
+    final Source base;
+
+    /**
+     * Whether this tree is a snapshot, which cannot change.
+     */
+    final boolean frozen;
+
+    /**
+     * The version the sections of this tree change in.
+     */
+    int current;
+
+    /**
+     * Whether a section of this tree replaced its map since the last snapshot or fork.
+     */
+    boolean changed;
+
+    /**
+     * The snapshots and forks of this tree, null until it has one.
+     */
+    @Nullable
+    private Readers readers;
+
+    Versions(@Nullable final Source base, final boolean frozen) {
+        this.base = base;
+        this.frozen = frozen;
+    }
+
+    /**
+     * Starts the next version, for a snapshot or fork which reads the tree in the current one. If nothing changed
+     * since the last snapshot or fork still in use, the new one reads the same version.
+     *
+     * @param root The root of this tree.
+     * @return The source the snapshot or fork reads, which it must keep as long as it is used.
+     */
+    @NotNull
+    Source read(@NotNull final Configuration root) {
+        if (this.readers == null) {
+            this.readers = new Readers();
+        }
+        this.readers.poll();
+        final Source last = this.readers.last == null ? null : this.readers.last.get();
+        if (last != null && !this.changed) {
+            // nothing changed since the last one, which reads the same version
+            return last;
+        }
+        final Source source = new Source(root, this.current, this.base);
+        this.readers.last = new WeakReference<>(source, this.readers.queue);
+        this.readers.references.put(this.readers.last, this.current);
+        this.readers.versions.merge(this.current, 1, Integer::sum);
+        this.current++;
+        this.changed = false;
+        return source;
+    }
+
+    /**
+     * Finds the version of the tree of the root which this tree reads.
+     *
+     * @param root The root of the other tree.
+     * @return The source of the tree, null if this tree does not read it.
+     */
+    @Nullable
+    Source find(@Nullable final Configuration root) {
+        for (Source source = this.base; source != null; source = source.next) {
+            if (source.root == root) {
+                return source;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gives the history of a section which replaces its map in the current version, with the replaced map if a
+     * snapshot or fork may still read it, and without the maps none of them reads anymore.
+     *
+     * @param history The history of the section.
+     * @param stamp The version the replaced map was set in.
+     * @param map The replaced map.
+     * @return The new history of the section.
+     */
+    @Nullable
+    History keep(@Nullable final History history, final int stamp, @NotNull final Map<String, Object> map) {
+        this.changed = true;
+        if (this.readers == null) {
+            return null;
+        }
+        this.readers.poll();
+        if (history == null && this.readers.versions.isEmpty()) {
+            return null;
+        }
+        return this.prune(new History(stamp, map, history), this.current - 1);
+    }
+
+    /**
+     * Leaves out the maps of the history which are no longer read, the first one being the map of the section
+     * up to the given version.
+     */
+    @Nullable
+    private History prune(@Nullable final History history, final int until) {
+        if (history == null) {
+            return null;
+        }
+        final History next = this.prune(history.next, history.stamp - 1);
+        final Integer reader = this.readers.versions.ceilingKey(history.stamp);
+        if (reader == null || reader > until) {
+            return next;
+        }
+        return next == history.next ? history : new History(history.stamp, history.map, next);
+    }
+
+    /**
+     * The snapshots and forks of a tree, which are tracked until they are not used anymore.
+     */
+    private static final class Readers {
+
+        private final ReferenceQueue<Source> queue = new ReferenceQueue<>();
+
+        private final Map<Reference<Source>, Integer> references = new HashMap<>();
+
+        /**
+         * The number of the snapshots and forks still in use, by the version they read.
+         */
+        private final TreeMap<Integer, Integer> versions = new TreeMap<>();
+
+        @Nullable
+        private WeakReference<Source> last;
+
+        private void poll() {
+            Reference<? extends Source> reference;
+            while ((reference = this.queue.poll()) != null) {
+                final Integer version = this.references.remove(reference);
+                if (version != null) {
+                    this.versions.computeIfPresent(version, (key, count) -> count == 1 ? null : count - 1);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A tree read in one of its versions, followed by the trees that tree reads.
+     */
+    static final class Source {
+
+        @NotNull
+        final Configuration root;
+
+        final int version;
+
+        @Nullable
+        final Source next;
+
+        private Source(@NotNull final Configuration root, final int version, @Nullable final Source next) {
+            this.root = root;
+            this.version = version;
+            this.next = next;
+        }
+
+    }
+
+    /**
+     * A map a section had from the version it was set in, followed by the older ones.
+     */
+    static final class History {
+
+        final int stamp;
+
+        @NotNull
+        final Map<String, Object> map;
+
+        @Nullable
+        final History next;
+
+        private History(final int stamp, @NotNull final Map<String, Object> map, @Nullable final History next) {
+            this.stamp = stamp;
+            this.map = map;
+            this.next = next;
+        }
+
+    }
+
+    /**
+     * A list of a snapshot as it is given out, which cannot be changed, nor can the lists and maps in it.
+     */
+    static final class ReadOnlyList extends AbstractList<Object> {
+
+        @NotNull
+        final List<?> list;
+
+        ReadOnlyList(@NotNull final List<?> list) {
+            this.list = list;
+        }
+
+        @Override
+        public Object get(final int index) {
+            final Object element = this.list.get(index);
+            if (element instanceof List) {
+                return new ReadOnlyList((List<?>) element);
+            }
+            if (element instanceof Map) {
+                return Collections.unmodifiableMap((Map<?, ?>) element);
+            }
+            return element;
+        }
+
+        @Override
+        public int size() {
+            return this.list.size();
+        }
+
+    }
+
+}
@@ -26,16 +26,21 @@
 package io.github.portlek.configs.files;
 
 import io.github.portlek.configs.configuration.FileConfiguration;
+import io.github.portlek.configs.files.binary.BinaryConfiguration;
 import io.github.portlek.configs.files.json.JsonConfiguration;
+import io.github.portlek.configs.files.json.JsonLinesConfiguration;
 import io.github.portlek.configs.files.yaml.YamlConfiguration;
 import java.io.File;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 
 public enum FileType {
 
-    YAML(".yml", YamlConfiguration::loadConfiguration),
-    JSON(".json", JsonConfiguration::loadConfiguration);
+    YAML(".yml", YamlConfiguration::loadConfiguration, YamlConfiguration::new),
+    JSON(".json", JsonConfiguration::loadConfiguration, JsonConfiguration::new),
+    JSON_LINES(".ndjson", JsonLinesConfiguration::loadConfiguration, JsonLinesConfiguration::new),
+    BINARY(".cfgb", BinaryConfiguration::loadConfiguration, BinaryConfiguration::new);
 
     @NotNull
     public final String suffix;
@@ -43,9 +48,14 @@ public enum FileType {
     @NotNull
     private final Function<File, FileConfiguration> file;
 
-    FileType(@NotNull final String sffix, @NotNull final Function<File, FileConfiguration> fle) {
+    @NotNull
+    private final Supplier<FileConfiguration> empty;
+
+    FileType(@NotNull final String sffix, @NotNull final Function<File, FileConfiguration> fle,
+             @NotNull final Supplier<FileConfiguration> empt) {
         this.suffix = sffix;
         this.file = fle;
+        this.empty = empt;
     }
 
     @NotNull
@@ -53,4 +63,9 @@ public enum FileType {
         return this.file.apply(file);
     }
 
+    @NotNull
+    public FileConfiguration create() {
+        return this.empty.get();
+    }
+
 }
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files;
+
+import io.github.portlek.configs.configuration.ConfigurationSection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Builds the values a parser reads straight into a {@link ConfigurationSection}, creating the sub-sections while
+ * reading, or into plain {@link Map}s and {@link List}s if it has no section. Mappings inside lists are kept as
+ * {@link Map}s and null values are skipped. The JSON and YAML handlers pass their events to it, so every format
+ * builds its sections the same way.
+ */
+public final class SectionBuilder {
+
+    @Nullable
+    private final ConfigurationSection section;
+
+    @Nullable
+    private Object parent;
+
+    @Nullable
+    private String key;
+
+    @Nullable
+    private Object value;
+
+    /**
+     * Creates a builder which reads the top-level mapping into the given section, or into a new {@link Map} if it
+     * is null.
+     *
+     * @param section the section to read into
+     */
+    public SectionBuilder(@Nullable final ConfigurationSection section) {
+        this.section = section;
+    }
+
+    /**
+     * Gets the value which was read last, which is the top-level value once the parser is done.
+     *
+     * @return the value read last
+     */
+    @Nullable
+    public Object getValue() {
+        return this.value;
+    }
+
+    /**
+     * Sets the scalar value which was just read.
+     *
+     * @param value the scalar value, or null
+     */
+    public void setValue(@Nullable final Object value) {
+        this.value = value;
+    }
+
+    @NotNull
+    public List<Object> startList() {
+        return new ArrayList<>();
+    }
+
+    public void endList(@NotNull final List<Object> list) {
+        this.value = list;
+    }
+
+    public void startListValue(@NotNull final List<Object> list) {
+        this.parent = list;
+    }
+
+    public void endListValue(@NotNull final List<Object> list) {
+        if (this.value != null) {
+            list.add(this.value);
+        }
+    }
+
+    @NotNull
+    public Object startMap() {
+        if (this.parent == null && this.section != null) {
+            return this.section;
+        }
+        if (this.parent instanceof ConfigurationSection) {
+            return ((ConfigurationSection) this.parent).createSection(this.key);
+        }
+        return new LinkedHashMap<String, Object>();
+    }
+
+    public void endMap(@NotNull final Object map) {
+        this.value = map;
+        if (map == this.section) {
+            this.parent = null;
+        }
+    }
+
+    public void startMapValue(@NotNull final Object map, @NotNull final String name) {
+        this.parent = map;
+        this.key = name;
+    }
+
+    public void endMapValue(@NotNull final Object map, @NotNull final String name) {
+        if (this.value == null) {
+            return;
+        }
+        if (map instanceof ConfigurationSection) {
+            if (!(this.value instanceof ConfigurationSection)) {
+                ((ConfigurationSection) map).set(name, this.value);
+            }
+        } else {
+            // noinspection unchecked
+            ((Map<String, Object>) map).put(name, this.value);
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.binary;
+
+import io.github.portlek.configs.configuration.FileConfiguration;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Base64;
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A binary Configuration based on {@link FileConfiguration}, for data files which are only read and written by
+ * the plugin itself.
+ * <p>
+ * The sections are stored as length-prefixed, type-tagged values with a versioned header, so they are read and
+ * written without any text parsing or formatting. Booleans, numbers, characters, strings, lists and sections
+ * are kept; other values are skipped. As a text, for {@link #saveToString()}, the binary form is encoded in
+ * Base64.
+ */
+public final class BinaryConfiguration extends FileConfiguration {
+
+    /**
+     * Loads up a configuration from a binary file.
+     *
+     * @param file The file to load the configuration from.
+     * @return The configuration loaded from the file contents.
+     */
+    @NotNull
+    public static BinaryConfiguration loadConfiguration(@NotNull final File file) {
+        final BinaryConfiguration config = new BinaryConfiguration();
+        config.load(file);
+        return config;
+    }
+
+    /**
+     * Loads this configuration from the stream, which is not closed by this method.
+     *
+     * @param input The stream to load from.
+     */
+    @SneakyThrows
+    public void load(@NotNull final InputStream input) {
+        new SectionDecoder(new DataInputStream(new BufferedInputStream(input))).decode(this);
+    }
+
+    /**
+     * Saves this configuration to the stream, which is flushed but not closed by this method.
+     *
+     * @param output The stream to save to.
+     * @throws IOException if the stream cannot be written.
+     */
+    public void save(@NotNull final OutputStream output) throws IOException {
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output));
+        new SectionEncoder(data).encode(this);
+        data.flush();
+    }
+
+    @SneakyThrows
+    @NotNull
+    @Override
+    public String saveToString() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.save(output);
+        return Base64.getEncoder().encodeToString(output.toByteArray());
+    }
+
+    @Override
+    public void loadFromString(@NotNull final String contents) {
+        final String trimmed = contents.trim();
+        if (trimmed.isEmpty()) {
+            return;
+        }
+        this.load(new ByteArrayInputStream(Base64.getDecoder().decode(trimmed)));
+    }
+
+    @Override
+    protected void loadFromPath(@NotNull final Path path) throws IOException {
+        try (final InputStream input = FileConfiguration.newInputStream(path)) {
+            this.load(input);
+        }
+    }
+
+    @Override
+    protected void saveToPath(@NotNull final Path path) throws IOException {
+        try (final OutputStream output = FileConfiguration.newOutputStream(path)) {
+            this.save(output);
+        }
+    }
+
+}
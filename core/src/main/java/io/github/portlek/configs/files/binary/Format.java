@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.configs.files.binary;
+
+/**
+ * The constants of the binary format.
+ * <p>
+ * A file starts with {@link #MAGIC} and the {@link #VERSION} it was written in, followed by the root section.
+ * A section is the number of its entries followed by the entries, each being its key and its tagged value. A
+ * list is the number of its elements followed by the tagged elements. Numbers of entries and elements, and
+ * lengths of strings, are unsigned variable-length integers; ints and longs are zigzag variable-length
+ * integers; strings are standard UTF-8, not the modified UTF-8 of {@link java.io.DataOutput#writeUTF(String)},
+ * so they are not limited to 65535 bytes.
+ */
+final class Format {
+
+    static final byte[] MAGIC = {'C', 'F', 'G', 'B'};
+
+    static final int VERSION = 1;
+
+    static final int FALSE = 0;
+
+    static final int TRUE = 1;
+
+    static final int BYTE = 2;
+
+    static final int SHORT = 3;
+
+    static final int INT = 4;
+
+    static final int LONG = 5;
+
+    static final int FLOAT = 6;
+
+    static final int DOUBLE = 7;
+
+    static final int CHAR = 8;
+
+    static final int STRING = 9;
+
+    static final int LIST = 10;
+
+    static final int SECTION = 11;
+
+    private Format() {
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.configs.files.binary;
+
+import io.github.portlek.configs.configuration.ConfigurationSection;
+import io.github.portlek.configs.configuration.InvalidConfigurationException;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads values written in the binary {@link Format} straight into a {@link ConfigurationSection}, creating the
+ * sub-sections while reading. Sections inside lists are kept as {@link Map}s.
+ */
+final class SectionDecoder {
+
+    /**
+     * The most bytes or elements allocated for a size read from the input before they are read.
+     */
+    private static final int CHUNK = 8192;
+
+    @NotNull
+    private final DataInputStream input;
+
+    SectionDecoder(@NotNull final DataInputStream input) {
+        this.input = input;
+    }
+
+    /**
+     * Reads the input into the section. An empty input leaves the section as it is.
+     */
+    void decode(@NotNull final ConfigurationSection section) throws IOException, InvalidConfigurationException {
+        final int first = this.input.read();
+        if (first == -1) {
+            return;
+        }
+        final byte[] magic = new byte[Format.MAGIC.length];
+        magic[0] = (byte) first;
+        this.input.readFully(magic, 1, magic.length - 1);
+        for (int index = 0; index < magic.length; index++) {
+            if (magic[index] != Format.MAGIC[index]) {
+                throw new InvalidConfigurationException("The input is not a binary configuration");
+            }
+        }
+        final int version = this.input.readUnsignedByte();
+        if (version > Format.VERSION) {
+            throw new InvalidConfigurationException("The binary configuration version " + version +
+                " is newer than the supported version " + Format.VERSION);
+        }
+        this.section(section);
+    }
+
+    private void section(@NotNull final ConfigurationSection section) throws IOException, InvalidConfigurationException {
+        final int size = this.readSize();
+        for (int index = 0; index < size; index++) {
+            final String key = this.readString();
+            final int tag = this.input.readUnsignedByte();
+            if (tag == Format.SECTION) {
+                this.section(section.createSection(key));
+            } else {
+                section.set(key, this.value(tag));
+            }
+        }
+    }
+
+    @Nullable
+    private Object value(final int tag) throws IOException, InvalidConfigurationException {
+        switch (tag) {
+            case Format.FALSE:
+                return false;
+            case Format.TRUE:
+                return true;
+            case Format.BYTE:
+                return this.input.readByte();
+            case Format.SHORT:
+                return this.input.readShort();
+            case Format.INT:
+                return (int) this.readVarLong();
+            case Format.LONG:
+                return this.readVarLong();
+            case Format.FLOAT:
+                return this.input.readFloat();
+            case Format.DOUBLE:
+                return this.input.readDouble();
+            case Format.CHAR:
+                return this.input.readChar();
+            case Format.STRING:
+                return this.readString();
+            case Format.LIST:
+                return this.list();
+            case Format.SECTION:
+                return this.map();
+            default:
+                throw new InvalidConfigurationException("Unknown value tag " + tag);
+        }
+    }
+
+    @NotNull
+    private List<Object> list() throws IOException, InvalidConfigurationException {
+        final int size = this.readSize();
+        final List<Object> list = new ArrayList<>(Math.min(size, SectionDecoder.CHUNK));
+        for (int index = 0; index < size; index++) {
+            list.add(this.value(this.input.readUnsignedByte()));
+        }
+        return list;
+    }
+
+    @NotNull
+    private Map<String, Object> map() throws IOException, InvalidConfigurationException {
+        final int size = this.readSize();
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int index = 0; index < size; index++) {
+            final String key = this.readString();
+            map.put(key, this.value(this.input.readUnsignedByte()));
+        }
+        return map;
+    }
+
+    /**
+     * Reads a string, growing its buffer as its bytes arrive, so a size which is bigger than the rest of the
+     * input fails at the end of the input instead of being allocated up front.
+     */
+    @NotNull
+    private String readString() throws IOException, InvalidConfigurationException {
+        final int size = this.readSize();
+        byte[] bytes = new byte[Math.min(size, SectionDecoder.CHUNK)];
+        int read = 0;
+        while (read < size) {
+            if (read == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(size, (long) bytes.length << 1));
+            }
+            final int count = this.input.read(bytes, read, bytes.length - read);
+            if (count == -1) {
+                throw new EOFException("A string of " + size + " bytes is longer than the rest of the input");
+            }
+            read += count;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int readSize() throws IOException, InvalidConfigurationException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int read = this.input.readUnsignedByte();
+            value |= (read & 0x7F) << shift;
+            if ((read & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new InvalidConfigurationException("Malformed size in the binary configuration");
+    }
+
+    private long readVarLong() throws IOException, InvalidConfigurationException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int read = this.input.readUnsignedByte();
+            value |= (long) (read & 0x7F) << shift;
+            if ((read & 0x80) == 0) {
+                return value >>> 1 ^ -(value & 1);
+            }
+        }
+        throw new InvalidConfigurationException("Malformed number in the binary configuration");
+    }
+
+}
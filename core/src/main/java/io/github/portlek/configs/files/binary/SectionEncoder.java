@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.configs.files.binary;
+
+import io.github.portlek.configs.configuration.Configuration;
+import io.github.portlek.configs.configuration.ConfigurationSection;
+import io.github.portlek.configs.configuration.MemorySection;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes the values of a {@link ConfigurationSection} in the binary {@link Format}. Values which the format
+ * cannot hold are skipped.
+ */
+final class SectionEncoder {
+
+    @NotNull
+    private final DataOutputStream output;
+
+    SectionEncoder(@NotNull final DataOutputStream output) {
+        this.output = output;
+    }
+
+    void encode(@NotNull final ConfigurationSection section) throws IOException {
+        this.output.write(Format.MAGIC);
+        this.output.writeByte(Format.VERSION);
+        this.section(SectionEncoder.values(section));
+    }
+
+    @NotNull
+    private static Map<?, ?> values(@NotNull final ConfigurationSection section) {
+        final Configuration root = section.getRoot();
+        if (section instanceof MemorySection && (root == null || !root.options().copyDefaults())) {
+            return ((MemorySection) section).getLocalValues();
+        }
+        return section.getValues(false);
+    }
+
+    private static boolean isSupported(final Object value) {
+        return value instanceof Boolean ||
+            value instanceof Number && SectionEncoder.isSupportedNumber((Number) value) ||
+            value instanceof Character ||
+            value instanceof String ||
+            value instanceof Iterable<?> ||
+            value instanceof Map<?, ?> ||
+            value instanceof ConfigurationSection;
+    }
+
+    private static boolean isSupportedNumber(@NotNull final Number value) {
+        return value instanceof Byte ||
+            value instanceof Short ||
+            value instanceof Integer ||
+            value instanceof Long ||
+            value instanceof Float ||
+            value instanceof Double;
+    }
+
+    private void section(@NotNull final Map<?, ?> values) throws IOException {
+        int size = 0;
+        for (final Object value : values.values()) {
+            if (SectionEncoder.isSupported(value)) {
+                size++;
+            }
+        }
+        this.writeSize(size);
+        for (final Map.Entry<?, ?> entry : values.entrySet()) {
+            final Object value = entry.getValue();
+            if (SectionEncoder.isSupported(value)) {
+                this.writeString(String.valueOf(entry.getKey()));
+                this.value(value);
+            }
+        }
+    }
+
+    private void list(@NotNull final Iterable<?> values) throws IOException {
+        final Collection<Object> supported = new ArrayList<>();
+        for (final Object value : values) {
+            if (SectionEncoder.isSupported(value)) {
+                supported.add(value);
+            }
+        }
+        this.writeSize(supported.size());
+        for (final Object value : supported) {
+            this.value(value);
+        }
+    }
+
+    private void value(@NotNull final Object value) throws IOException {
+        if (value instanceof Boolean) {
+            this.output.writeByte((boolean) value ? Format.TRUE : Format.FALSE);
+        } else if (value instanceof Byte) {
+            this.output.writeByte(Format.BYTE);
+            this.output.writeByte((byte) value);
+        } else if (value instanceof Short) {
+            this.output.writeByte(Format.SHORT);
+            this.output.writeShort((short) value);
+        } else if (value instanceof Integer) {
+            this.output.writeByte(Format.INT);
+            this.writeVarLong((int) value);
+        } else if (value instanceof Long) {
+            this.output.writeByte(Format.LONG);
+            this.writeVarLong((long) value);
+        } else if (value instanceof Float) {
+            this.output.writeByte(Format.FLOAT);
+            this.output.writeFloat((float) value);
+        } else if (value instanceof Double) {
+            this.output.writeByte(Format.DOUBLE);
+            this.output.writeDouble((double) value);
+        } else if (value instanceof Character) {
+            this.output.writeByte(Format.CHAR);
+            this.output.writeChar((char) value);
+        } else if (value instanceof String) {
+            this.output.writeByte(Format.STRING);
+            this.writeString((String) value);
+        } else if (value instanceof Iterable<?>) {
+            this.output.writeByte(Format.LIST);
+            this.list((Iterable<?>) value);
+        } else if (value instanceof Map<?, ?>) {
+            this.output.writeByte(Format.SECTION);
+            this.section((Map<?, ?>) value);
+        } else if (value instanceof ConfigurationSection) {
+            this.output.writeByte(Format.SECTION);
+            this.section(SectionEncoder.values((ConfigurationSection) value));
+        }
+    }
+
+    private void writeString(@NotNull final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        this.writeSize(bytes.length);
+        this.output.write(bytes);
+    }
+
+    private void writeSize(final int size) throws IOException {
+        int value = size;
+        while ((value & ~0x7F) != 0) {
+            this.output.writeByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        this.output.writeByte(value);
+    }
+
+    private void writeVarLong(final long number) throws IOException {
+        long value = number << 1 ^ number >> 63;
+        while ((value & ~0x7FL) != 0) {
+            this.output.writeByte((int) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        this.output.writeByte((int) value);
+    }
+
+}
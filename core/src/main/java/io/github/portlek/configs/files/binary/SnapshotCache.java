@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.binary;
+
+import io.github.portlek.configs.configuration.FileConfiguration;
+import io.github.portlek.configs.configuration.InvalidConfigurationException;
+import io.github.portlek.configs.files.FileType;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps a binary snapshot of each parsed configuration file, so an unchanged file is loaded from its snapshot
+ * instead of being parsed again.
+ * <p>
+ * A snapshot starts with the key of the source file it was taken from, its size and the CRC-32 of its content,
+ * followed by the sections in the binary {@link Format}. A snapshot is used when the size and the CRC-32 of the
+ * source are still the same; otherwise the source is parsed with its {@link FileType} and the snapshot is taken
+ * again by {@link #save(File, FileConfiguration)}. The modified time is not part of the key, as a file rewritten
+ * within its resolution, or copied with its times kept, changes without it. A snapshot which cannot be read is
+ * ignored.
+ */
+public final class SnapshotCache {
+
+    private static final String SUFFIX = ".cfgb";
+
+    private static final int KEY_SIZE = 2 * Long.BYTES;
+
+    @Nullable
+    private final File directory;
+
+    /**
+     * Creates a cache keeping the snapshots in the directory, or next to the source files if it is null. In a
+     * directory, the name of a snapshot also has the hash of the path of its source, so the files with the same
+     * name from different directories do not share a snapshot.
+     *
+     * @param directory the directory of the snapshots.
+     */
+    public SnapshotCache(@Nullable final File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Loads the file from its snapshot if the file did not change since the snapshot was taken, or parses it
+     * with the type otherwise.
+     *
+     * @param file the file to load.
+     * @param type the type of the file.
+     * @return the loaded configuration.
+     */
+    @SneakyThrows
+    @NotNull
+    public FileConfiguration load(@NotNull final File file, @NotNull final FileType type) {
+        final Path snapshot = this.snapshot(file);
+        if (type != FileType.BINARY && file.isFile() && Files.isRegularFile(snapshot)) {
+            try (final InputStream input = Files.newInputStream(snapshot)) {
+                final DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+                final long size = data.readLong();
+                if (SnapshotCache.matches(file.toPath(), size, data.readLong())) {
+                    final FileConfiguration configuration = type.create();
+                    new SectionDecoder(data).decode(configuration);
+                    return configuration;
+                }
+            } catch (final IOException | InvalidConfigurationException ignored) {
+                // An unreadable snapshot is taken again on the next save.
+            }
+        }
+        return type.load(file);
+    }
+
+    /**
+     * Takes the snapshot of the configuration, which is the content of the file as it was just loaded or saved.
+     * Nothing is written if the snapshot of the file is already up to date.
+     *
+     * @param file the file of the configuration.
+     * @param configuration the configuration to take the snapshot of.
+     */
+    @SneakyThrows
+    public void save(@NotNull final File file, @NotNull final FileConfiguration configuration) {
+        if (configuration instanceof BinaryConfiguration || !file.isFile()) {
+            return;
+        }
+        final Path source = file.toPath();
+        final Path snapshot = this.snapshot(file);
+        final long size = Files.size(source);
+        final long checksum = SnapshotCache.checksum(source);
+        if (Files.isRegularFile(snapshot) && Files.size(snapshot) > SnapshotCache.KEY_SIZE) {
+            try (final DataInputStream input = new DataInputStream(Files.newInputStream(snapshot))) {
+                if (input.readLong() == size && input.readLong() == checksum) {
+                    return;
+                }
+            }
+        }
+        Files.createDirectories(snapshot.toAbsolutePath().getParent());
+        final Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try (final OutputStream output = Files.newOutputStream(temp)) {
+            final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output));
+            data.writeLong(size);
+            data.writeLong(checksum);
+            new SectionEncoder(data).encode(configuration);
+            data.flush();
+        }
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @NotNull
+    private Path snapshot(@NotNull final File file) {
+        final File absolute = file.getAbsoluteFile();
+        if (this.directory == null) {
+            return new File(absolute.getParentFile(), absolute.getName() + SnapshotCache.SUFFIX).toPath();
+        }
+        return new File(this.directory, absolute.getName() + '-' +
+            Integer.toHexString(absolute.getPath().hashCode()) + SnapshotCache.SUFFIX).toPath();
+    }
+
+    private static boolean matches(@NotNull final Path source, final long size, final long checksum)
+        throws IOException {
+        return Files.size(source) == size && SnapshotCache.checksum(source) == checksum;
+    }
+
+    private static long checksum(@NotNull final Path source) throws IOException {
+        final CRC32 crc = new CRC32();
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        try (final FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+}
@@ -28,22 +28,74 @@
  * file, You can obtain one at http://mozilla.org/MPL/2.0/. */
 package io.github.portlek.configs.files.json;
 
+import io.github.portlek.configs.configuration.ConfigurationSection;
 import io.github.portlek.configs.configuration.FileConfiguration;
-import io.github.portlek.configs.files.json.minimaljson.Json;
-import io.github.portlek.configs.files.json.minimaljson.JsonObject;
-import io.github.portlek.configs.files.json.minimaljson.JsonValue;
+import io.github.portlek.configs.configuration.MemorySection;
+import io.github.portlek.configs.files.json.minimaljson.JsonEmitter;
+import io.github.portlek.configs.files.json.minimaljson.JsonParser;
 import io.github.portlek.configs.files.json.minimaljson.WriterConfig;
+import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.SneakyThrows;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A JSON Configuration for Bukkit based on {@link FileConfiguration}.
  * <p>
  * Able to store all the things you'd expect from a Bukkit configuration.
+ * <p>
+ * In the lazy mode a member is parsed apart from the configuration when it is first read, and the
+ * members parsed last are cached. A member is kept in the configuration for good once it is changed or
+ * one of its lists is read, as the list may be changed in place. The cached members are read without a
+ * lock and only parsing a member takes one, which keeps concurrent readers safe; writes are no more
+ * thread-safe than in any other configuration.
  */
 public final class JsonConfiguration extends FileConfiguration {
 
-    private static final String BLANK_CONFIG = "{}\n";
+    /**
+     * The file the members which are not parsed yet are read from, in the lazy mode.
+     */
+    @Nullable
+    private Path source;
+
+    /**
+     * The members which were parsed last, in the lazy mode. It is read without a lock, and changed only while
+     * holding the lock of this configuration.
+     */
+    @Nullable
+    private volatile Map<String, Object> cache;
+
+    /**
+     * The keys of the cached members in the order they were parsed, so the oldest one is dropped first.
+     */
+    @NotNull
+    private final Deque<String> parsed = new ArrayDeque<>();
+
+    private int cacheSize;
+
+    /**
+     * The section of the member which is being parsed, which cannot be kept yet.
+     */
+    @Nullable
+    private ConfigurationSection parsing;
 
     /**
      * Loads up a configuration from a json formatted file.
@@ -64,15 +116,38 @@ public final class JsonConfiguration extends FileConfiguration {
         return config;
     }
 
+    @SneakyThrows
     @NotNull
     @Override
     public String saveToString() {
-        final JsonObject jsonObject = Helper.mapAsJsonObject(this.getValues(false));
-        final String dump = jsonObject.toString(WriterConfig.PRETTY_PRINT);
-        if (dump.equals(JsonConfiguration.BLANK_CONFIG)) {
-            return "";
+        final StringWriter writer = new StringWriter();
+        this.save(writer);
+        return writer.toString();
+    }
+
+    @Override
+    public void save(@NotNull final Writer writer) throws IOException {
+        final WriterConfig config = this.options().compact() ? WriterConfig.MINIMAL : WriterConfig.PRETTY_PRINT;
+        new SectionEmitter(new JsonEmitter(writer, config)).emit(this);
+    }
+
+    @Override
+    protected void beforeSave(@NotNull final Path path) throws IOException {
+        if (this.source == null || !Files.exists(path) || !Files.isSameFile(path, this.source)) {
+            return;
         }
-        return dump;
+        this.keepMembers();
+    }
+
+    @Override
+    protected synchronized void beforeSnapshot() {
+        if (this.source == null) {
+            return;
+        }
+        // a snapshot shares the members as they are, so they cannot wait to be parsed anymore
+        this.keepMembers();
+        this.source = null;
+        this.cache = null;
     }
 
     @Override
@@ -80,11 +155,174 @@ public final class JsonConfiguration extends FileConfiguration {
         if (contents.isEmpty()) {
             return;
         }
-        final JsonValue parse = Json.parse(contents);
-        if (!parse.isObject()) {
+        new JsonParser(new SectionHandler(this)).parse(contents);
+    }
+
+    @Override
+    protected void loadFromReader(@NotNull final BufferedReader reader) throws IOException {
+        int read;
+        do {
+            reader.mark(1);
+            read = reader.read();
+        } while (read != -1 && Character.isWhitespace(read));
+        if (read == -1) {
+            return;
+        }
+        reader.reset();
+        new JsonParser(new SectionHandler(this)).parse(reader);
+    }
+
+    @SneakyThrows
+    @Override
+    protected void loadFromPath(@NotNull final Path path) throws IOException {
+        if (!this.options().lazy() || this.options().pathIndex() || FileConfiguration.isCompressed(path)) {
+            // a compressed file cannot be read at the offsets of its members, and the index needs every path
+            super.loadFromPath(path);
+            return;
+        }
+        final Map<String, MemberIndex.Member> members = MemberIndex.scan(path);
+        final String separator = String.valueOf(this.options().pathSeparator());
+        if (members.keySet().stream().anyMatch(key -> key.contains(separator))) {
+            // such members are nested in sections when they are set, so they cannot wait to be parsed
+            super.loadFromPath(path);
+            return;
+        }
+        synchronized (this) {
+            this.cacheSize = this.options().cacheSize();
+            this.source = path;
+            this.parsed.clear();
+            this.cache = new ConcurrentHashMap<>();
+        }
+        members.forEach(this::set);
+    }
+
+    @Nullable
+    @Override
+    protected Object resolve(@NotNull final String key, @Nullable final Object stored) {
+        final Map<String, Object> cache = this.cache;
+        if (cache == null || !(stored instanceof MemberIndex.Member)) {
+            return stored;
+        }
+        final Object cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // a member is parsed apart from the map, so the readers which do not parse it never see it half parsed
+        synchronized (this) {
+            final Object current = this.map.get(key);
+            if (!(current instanceof MemberIndex.Member) || this.cache == null) {
+                return current;
+            }
+            Object value = this.cache.get(key);
+            if (value == null) {
+                value = this.read(key, (MemberIndex.Member) current);
+                this.cache.put(key, value);
+                this.parsed.add(key);
+                while (this.cache.size() > this.cacheSize && !this.parsed.isEmpty()) {
+                    this.cache.remove(this.parsed.poll());
+                }
+            }
+            return value;
+        }
+    }
+
+    @Override
+    protected void onChange(@NotNull final ConfigurationSection section) {
+        final ConfigurationSection member = this.memberOf(section);
+        if (member != null) {
+            this.keep(member.getName(), member);
+        }
+    }
+
+    @Override
+    protected void onListRead(@NotNull final ConfigurationSection section, @NotNull final String key,
+                              @NotNull final List<?> list) {
+        if (section == this) {
+            this.keep(key, list);
+            return;
+        }
+        final ConfigurationSection member = this.memberOf(section);
+        if (member != null) {
+            this.keep(member.getName(), member);
+        }
+    }
+
+    /**
+     * Finds the section of the member the given section is in, in the lazy mode.
+     *
+     * @return The section of the member, or null if the section is the root or nothing is lazy.
+     */
+    @Nullable
+    private ConfigurationSection memberOf(@NotNull final ConfigurationSection section) {
+        if (this.cache == null) {
+            return null;
+        }
+        ConfigurationSection member = section;
+        while (member.getParent() != null && member.getParent() != this) {
+            member = member.getParent();
+        }
+        return member == this ? null : member;
+    }
+
+    /**
+     * Keeps the value of the member for good, instead of dropping it from the cache and parsing it again, as it was
+     * changed or may be changed in place.
+     */
+    private void keep(@NotNull final String key, @NotNull final Object value) {
+        if (!(this.map.get(key) instanceof MemberIndex.Member)) {
             return;
         }
-        Helper.convertMapToSection(parse.asObject(), this);
+        synchronized (this) {
+            if (this.cache != null && value != this.parsing && this.map.get(key) instanceof MemberIndex.Member) {
+                this.map.put(key, value);
+                this.cache.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Parses and keeps the members which are not parsed yet, so they are not read from the source file again.
+     */
+    private synchronized void keepMembers() {
+        for (final String key : new ArrayList<>(this.map.keySet())) {
+            final Object stored = this.map.get(key);
+            if (stored instanceof MemberIndex.Member) {
+                this.map.put(key, this.resolve(key, stored));
+            }
+        }
+        this.cache.clear();
+        this.parsed.clear();
+    }
+
+    /**
+     * Parses the value of the member from the source file, into a section of this configuration which is not stored
+     * in it yet if the value is an object.
+     */
+    @SneakyThrows
+    @NotNull
+    private Object read(@NotNull final String key, @NotNull final MemberIndex.Member member) {
+        final int length = (int) (member.end - member.start);
+        final byte[] bytes = new byte[length];
+        try (final FileChannel channel = FileChannel.open(this.source, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long position = member.start;
+            while (buffer.hasRemaining()) {
+                final int read = channel.read(buffer, position);
+                if (read == -1) {
+                    throw new EOFException("The member " + key + " is not in " + this.source + " anymore");
+                }
+                position += read;
+            }
+        }
+        final MemberSection section = new MemberSection(this, key);
+        final SectionHandler handler = new SectionHandler(section);
+        this.parsing = section;
+        try {
+            new JsonParser(handler).parse(new String(bytes, StandardCharsets.UTF_8));
+        } finally {
+            this.parsing = null;
+        }
+        return Objects.requireNonNull(handler.getValue(), "The member " + key + " has no value");
     }
 
     @NotNull
@@ -97,4 +335,16 @@ public final class JsonConfiguration extends FileConfiguration {
         return (JsonConfigurationOptions) this.options;
     }
 
+    /**
+     * The section of a member parsed from the source file, which is a section of this configuration before it is
+     * stored in it.
+     */
+    private static final class MemberSection extends MemorySection {
+
+        private MemberSection(@NotNull final ConfigurationSection parent, @NotNull final String key) {
+            super(parent, key);
+        }
+
+    }
+
 }
@@ -36,6 +36,12 @@ import org.jetbrains.annotations.NotNull;
  */
 public class JsonConfigurationOptions extends FileConfigurationOptions {
 
+    private boolean compact = false;
+
+    private boolean lazy = false;
+
+    private int cacheSize = 64;
+
     protected JsonConfigurationOptions(@NotNull final JsonConfiguration configuration) {
         super(configuration);
     }
@@ -60,4 +66,96 @@ public class JsonConfigurationOptions extends FileConfigurationOptions {
         return this;
     }
 
+    @NotNull
+    @Override
+    public final JsonConfigurationOptions pathIndex(final boolean value) {
+        super.pathIndex(value);
+        return this;
+    }
+
+    /**
+     * Gets whether the configuration is saved in its compact form, on a
+     * single line without any whitespace.
+     * <p>
+     * Defaults to false.
+     *
+     * @return Whether to save compact
+     */
+    public final boolean compact() {
+        return this.compact;
+    }
+
+    /**
+     * Sets whether the configuration should be saved in its compact form,
+     * on a single line without any whitespace, instead of pretty printed.
+     *
+     * @param value Whether to save compact
+     * @return This object, for chaining
+     */
+    @NotNull
+    public final JsonConfigurationOptions compact(final boolean value) {
+        this.compact = value;
+        return this;
+    }
+
+    /**
+     * Gets whether the members of the root object are parsed only when they
+     * are first accessed, when loading from a file.
+     * <p>
+     * Defaults to false.
+     *
+     * @return Whether to load lazily
+     */
+    public final boolean lazy() {
+        return this.lazy;
+    }
+
+    /**
+     * Sets whether the members of the root object should be parsed only when
+     * they are first accessed, when loading from a file.
+     * <p>
+     * Loading then only scans the file to find where each member is. A member
+     * is read from the file when it is first accessed and kept in a cache of
+     * {@link #cacheSize()} members; a member which is changed, or one of
+     * whose lists is read, is kept for good as the list may be changed. Saving to the same file parses all the remaining members first.
+     * This pays off for big files of which only some members are accessed.
+     * Compressed files, and files loaded while the {@link #pathIndex()} is
+     * enabled, are always loaded as a whole.
+     *
+     * @param value Whether to load lazily
+     * @return This object, for chaining
+     */
+    @NotNull
+    public final JsonConfigurationOptions lazy(final boolean value) {
+        this.lazy = value;
+        return this;
+    }
+
+    /**
+     * Gets how many parsed members are kept in the lazy mode.
+     * <p>
+     * Defaults to 64.
+     *
+     * @return The number of members to keep
+     */
+    public final int cacheSize() {
+        return this.cacheSize;
+    }
+
+    /**
+     * Sets how many parsed members should be kept in the lazy mode, the one
+     * parsed first being dropped first.
+     *
+     * @param value The number of members to keep
+     * @return This object, for chaining
+     */
+    @NotNull
+    public final JsonConfigurationOptions cacheSize(final int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        this.cacheSize = value;
+        return this;
+    }
+
 }
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.json;
+
+import io.github.portlek.configs.configuration.FileConfiguration;
+import io.github.portlek.configs.configuration.MemoryConfiguration;
+import io.github.portlek.configs.files.json.minimaljson.JsonEmitter;
+import io.github.portlek.configs.files.json.minimaljson.JsonParser;
+import io.github.portlek.configs.files.json.minimaljson.WriterConfig;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A JSON Lines (NDJSON) Configuration based on {@link FileConfiguration}, for append-only record files.
+ * <p>
+ * Every line of the file is a JSON object whose members are set on the root of the configuration, in the
+ * order of the lines, so a later record replaces an earlier one with the same key, and a record whose value
+ * is null removes the key. Saving writes one line per top-level key. A record is added with
+ * {@link #append(Path, String, Object)}, which writes only its own line at the end of the file, and the
+ * replaced and removed records are dropped from the file by {@link #compact(Path)}.
+ */
+public final class JsonLinesConfiguration extends FileConfiguration {
+
+    /**
+     * Loads up a configuration from a JSON Lines file.
+     *
+     * @param file The file to load the configuration from.
+     * @return The configuration loaded from the file contents.
+     */
+    @NotNull
+    public static JsonLinesConfiguration loadConfiguration(@NotNull final File file) {
+        final JsonLinesConfiguration config = new JsonLinesConfiguration();
+        config.load(file);
+        return config;
+    }
+
+    /**
+     * Streams the records of a JSON Lines file one line at a time, without loading the whole file. Objects
+     * are given as {@link io.github.portlek.configs.configuration.ConfigurationSection}s, and the records
+     * which remove a key are given with a null value.
+     * <p>
+     * The file stays open until the stream is closed. A compressed file is decompressed while it is read.
+     *
+     * @param path The file to read the records from.
+     * @return The records of the file, in their order.
+     */
+    @SneakyThrows
+    @NotNull
+    public static Stream<Map.Entry<String, Object>> records(@NotNull final Path path) {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(
+            FileConfiguration.newInputStream(path), StandardCharsets.UTF_8));
+        return reader.lines()
+            .onClose(() -> {
+                try {
+                    reader.close();
+                } catch (final IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            })
+            .filter(line -> !line.trim().isEmpty())
+            .flatMap(line -> {
+                final MemoryConfiguration values = new MemoryConfiguration();
+                final Set<String> removed = new LinkedHashSet<>();
+                new JsonParser(new SectionHandler(values, name -> {
+                    values.set(name, null);
+                    removed.add(name);
+                })).parse(line);
+                removed.removeAll(values.getKeys(false));
+                return Stream.concat(values.getValues(false).entrySet().stream(),
+                    removed.stream().map(name -> new AbstractMap.SimpleImmutableEntry<>(name, null)));
+            });
+    }
+
+    @SneakyThrows
+    @NotNull
+    @Override
+    public String saveToString() {
+        final StringWriter writer = new StringWriter();
+        this.save(writer);
+        return writer.toString();
+    }
+
+    @Override
+    public void save(@NotNull final Writer writer) throws IOException {
+        final SectionEmitter emitter = new SectionEmitter(new JsonEmitter(writer, WriterConfig.MINIMAL));
+        for (final Map.Entry<String, Object> entry : this.getValues(false).entrySet()) {
+            if (emitter.emit(entry.getKey(), entry.getValue())) {
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Sets the value and appends it to the end of the file as a record of its own, so the cost of the
+     * write depends only on the size of the value. A null value removes the key, and is written as a
+     * record which removes it again when the file is loaded. Other values which JSON cannot hold are set
+     * but not written.
+     *
+     * @param file The file to append the record to.
+     * @param key Path of the value to set.
+     * @param value New value to set the path to.
+     */
+    public void append(@NotNull final File file, @NotNull final String key, @Nullable final Object value) {
+        this.append(file.toPath(), key, value);
+    }
+
+    /**
+     * Sets the value and appends it to the end of the file as a record of its own, so the cost of the
+     * write depends only on the size of the value. A null value removes the key, and is written as a
+     * record which removes it again when the file is loaded. Other values which JSON cannot hold are set
+     * but not written.
+     *
+     * @param path The file to append the record to.
+     * @param key Path of the value to set.
+     * @param value New value to set the path to.
+     */
+    @SneakyThrows
+    public void append(@NotNull final Path path, @NotNull final String key, @Nullable final Object value) {
+        this.set(key, value);
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (final Writer writer = new BufferedWriter(new OutputStreamWriter(
+            FileConfiguration.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND),
+            StandardCharsets.UTF_8))) {
+            final Object written = value == null ? null : this.get(key);
+            if (new SectionEmitter(new JsonEmitter(writer, WriterConfig.MINIMAL)).emit(key, written)) {
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Rewrites the file with one record per top-level key, dropping the records which were replaced by
+     * later ones. The records are written to a file next to it which then replaces it, so the file is
+     * never left half written.
+     *
+     * @param file The file to compact.
+     */
+    public void compact(@NotNull final File file) {
+        this.compact(file.toPath());
+    }
+
+    /**
+     * Rewrites the file with one record per top-level key, dropping the records which were replaced by
+     * later ones. The records are written to a file next to it which then replaces it, so the file is
+     * never left half written.
+     *
+     * @param path The file to compact.
+     */
+    public void compact(@NotNull final Path path) {
+        this.save(path);
+    }
+
+    @Override
+    public void loadFromString(@NotNull final String contents) {
+        final JsonParser parser = new JsonParser(new SectionHandler(this));
+        for (final String line : contents.split("\n")) {
+            if (!line.trim().isEmpty()) {
+                parser.parse(line);
+            }
+        }
+    }
+
+    @Override
+    protected void loadFromReader(@NotNull final BufferedReader reader) throws IOException {
+        final JsonParser parser = new JsonParser(new SectionHandler(this));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                parser.parse(line);
+            }
+        }
+    }
+
+}
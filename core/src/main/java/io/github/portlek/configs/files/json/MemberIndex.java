@@ -0,0 +1,266 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.json;
+
+import io.github.portlek.configs.configuration.InvalidConfigurationException;
+import io.github.portlek.configs.files.json.minimaljson.Json;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Scans a JSON file once, without parsing the values, to find where each member of its root object is. A
+ * later member replaces an earlier one with the same name and a null member removes it, the same way
+ * {@link SectionHandler} loads them. A root which is not an object has no members.
+ */
+final class MemberIndex {
+
+    @NotNull
+    private final InputStream input;
+
+    private final byte[] buffer = new byte[8192];
+
+    private int fill;
+
+    private int index;
+
+    /**
+     * Offset in the file of the first byte of the buffer.
+     */
+    private long offset;
+
+    private MemberIndex(@NotNull final InputStream input) {
+        this.input = input;
+    }
+
+    @NotNull
+    static Map<String, Member> scan(@NotNull final Path path) throws IOException, InvalidConfigurationException {
+        try (final InputStream input = Files.newInputStream(path)) {
+            return new MemberIndex(input).members();
+        }
+    }
+
+    private static boolean isWhitespace(final int character) {
+        return character == ' ' || character == '\t' || character == '\n' || character == '\r';
+    }
+
+    @NotNull
+    private Map<String, Member> members() throws IOException, InvalidConfigurationException {
+        final Map<String, Member> members = new LinkedHashMap<>();
+        int character = this.skipWhitespace(this.read());
+        if (character == 0xEF && this.read() == 0xBB && this.read() == 0xBF) {
+            character = this.skipWhitespace(this.read());
+        }
+        if (character != '{') {
+            return members;
+        }
+        character = this.skipWhitespace(this.read());
+        if (character == '}') {
+            return members;
+        }
+        while (true) {
+            if (character != '"') {
+                throw this.unexpected(character, "a member name");
+            }
+            final String name = this.name();
+            character = this.skipWhitespace(this.read());
+            if (character != ':') {
+                throw this.unexpected(character, "':'");
+            }
+            character = this.skipWhitespace(this.read());
+            final long start = this.position() - 1;
+            final boolean isNull = character == 'n';
+            final long end = this.skipValue(character);
+            if (isNull) {
+                members.remove(name);
+            } else {
+                members.put(name, new Member(start, end));
+            }
+            character = this.skipWhitespace(this.read());
+            if (character == '}') {
+                return members;
+            }
+            if (character != ',') {
+                throw this.unexpected(character, "',' or '}'");
+            }
+            character = this.skipWhitespace(this.read());
+        }
+    }
+
+    /**
+     * Reads a member name, of which the opening quote was read.
+     */
+    @NotNull
+    private String name() throws IOException, InvalidConfigurationException {
+        byte[] bytes = new byte[32];
+        int length = 0;
+        boolean escaped = false;
+        int character;
+        while ((character = this.read()) != '"') {
+            if (character == -1) {
+                throw this.unexpected(character, "'\"'");
+            }
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, length << 1);
+            }
+            bytes[length++] = (byte) character;
+            if (character == '\\') {
+                escaped = true;
+                character = this.read();
+                if (character == -1) {
+                    throw this.unexpected(character, "an escaped character");
+                }
+                if (length == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, length << 1);
+                }
+                bytes[length++] = (byte) character;
+            }
+        }
+        final String name = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        if (escaped) {
+            return Json.parse('"' + name + '"').asString();
+        }
+        return name;
+    }
+
+    /**
+     * Skips the value which starts with the character.
+     *
+     * @return the offset in the file right after the value.
+     */
+    private long skipValue(final int first) throws IOException, InvalidConfigurationException {
+        if (first == '"') {
+            this.skipString();
+            return this.position();
+        }
+        if (first == '{' || first == '[') {
+            int depth = 1;
+            while (depth > 0) {
+                final int character = this.read();
+                if (character == '"') {
+                    this.skipString();
+                } else if (character == '{' || character == '[') {
+                    depth++;
+                } else if (character == '}' || character == ']') {
+                    depth--;
+                } else if (character == -1) {
+                    throw this.unexpected(character, "the end of the value");
+                }
+            }
+            return this.position();
+        }
+        if (first == -1 || first == ',' || first == '}' || first == ']') {
+            throw this.unexpected(first, "a value");
+        }
+        int character;
+        do {
+            character = this.peek();
+            if (character == -1 || character == ',' || character == '}' || character == ']' ||
+                MemberIndex.isWhitespace(character)) {
+                return this.position();
+            }
+            this.read();
+        } while (true);
+    }
+
+    private void skipString() throws IOException, InvalidConfigurationException {
+        int character;
+        while ((character = this.read()) != '"') {
+            if (character == '\\') {
+                character = this.read();
+            }
+            if (character == -1) {
+                throw this.unexpected(character, "'\"'");
+            }
+        }
+    }
+
+    private int skipWhitespace(final int first) throws IOException {
+        int character = first;
+        while (MemberIndex.isWhitespace(character)) {
+            character = this.read();
+        }
+        return character;
+    }
+
+    private int peek() throws IOException {
+        if (this.index == this.fill && !this.refill()) {
+            return -1;
+        }
+        return this.buffer[this.index] & 0xFF;
+    }
+
+    private int read() throws IOException {
+        if (this.index == this.fill && !this.refill()) {
+            return -1;
+        }
+        return this.buffer[this.index++] & 0xFF;
+    }
+
+    private boolean refill() throws IOException {
+        this.offset += this.fill;
+        this.index = 0;
+        this.fill = Math.max(this.input.read(this.buffer), 0);
+        return this.fill > 0;
+    }
+
+    /**
+     * Offset in the file of the next byte to read.
+     */
+    private long position() {
+        return this.offset + this.index;
+    }
+
+    @NotNull
+    private InvalidConfigurationException unexpected(final int character, @NotNull final String expected) {
+        final String found = character == -1 ? "end of input" : "'" + (char) character + "'";
+        return new InvalidConfigurationException(
+            "Expected " + expected + " but found " + found + " at byte " + (this.position() - 1));
+    }
+
+    /**
+     * Where the value of a member is in the file: from its first byte to its end.
+     */
+    static final class Member {
+
+        final long start;
+
+        final long end;
+
+        private Member(final long start, final long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.json;
+
+import io.github.portlek.configs.configuration.Configuration;
+import io.github.portlek.configs.configuration.ConfigurationSection;
+import io.github.portlek.configs.configuration.MemorySection;
+import io.github.portlek.configs.files.json.minimaljson.JsonEmitter;
+import java.io.IOException;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Writes the values of a {@link ConfigurationSection} as JSON tokens into a {@link JsonEmitter}, walking the
+ * sections as they are, without building any {@link io.github.portlek.configs.files.json.minimaljson.JsonValue}.
+ * Values which JSON cannot hold are skipped.
+ */
+final class SectionEmitter {
+
+    @NotNull
+    private final JsonEmitter emitter;
+
+    SectionEmitter(@NotNull final JsonEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    /**
+     * Writes the section as a JSON object, or nothing at all if it has no value to write.
+     */
+    void emit(@NotNull final ConfigurationSection section) throws IOException {
+        final Map<?, ?> values = SectionEmitter.values(section);
+        if (SectionEmitter.isEmpty(values)) {
+            return;
+        }
+        this.object(values);
+        this.emitter.flush();
+    }
+
+    /**
+     * Writes the value as a JSON object holding only it under the key, or nothing at all if JSON cannot
+     * hold the value. A null value is written as null, which removes the key when it is loaded.
+     *
+     * @return whether the value was written
+     */
+    boolean emit(@NotNull final String key, @Nullable final Object value) throws IOException {
+        if (value != null && !SectionEmitter.isSupported(value)) {
+            return false;
+        }
+        this.emitter.writeObjectOpen();
+        this.emitter.writeMemberName(key);
+        if (value == null) {
+            this.emitter.writeNull();
+        } else {
+            this.value(value);
+        }
+        this.emitter.writeObjectClose();
+        this.emitter.flush();
+        return true;
+    }
+
+    @NotNull
+    private static Map<?, ?> values(@NotNull final ConfigurationSection section) {
+        final Configuration root = section.getRoot();
+        // a lazily loaded root stores members which are not parsed yet
+        if (section instanceof MemorySection && !(section instanceof JsonConfiguration) &&
+            (root == null || !root.options().copyDefaults())) {
+            return ((MemorySection) section).getLocalValues();
+        }
+        return section.getValues(false);
+    }
+
+    private static boolean isSupported(final Object value) {
+        return value instanceof Boolean ||
+            value instanceof Integer ||
+            value instanceof Long ||
+            value instanceof Float ||
+            value instanceof Double ||
+            value instanceof String ||
+            value instanceof Iterable<?> ||
+            value instanceof Map<?, ?> ||
+            value instanceof ConfigurationSection;
+    }
+
+    private static boolean isEmpty(@NotNull final Map<?, ?> values) {
+        for (final Object value : values.values()) {
+            if (SectionEmitter.isSupported(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void object(@NotNull final Map<?, ?> values) throws IOException {
+        this.emitter.writeObjectOpen();
+        boolean first = true;
+        for (final Map.Entry<?, ?> entry : values.entrySet()) {
+            final Object value = entry.getValue();
+            if (SectionEmitter.isSupported(value)) {
+                if (!first) {
+                    this.emitter.writeObjectSeparator();
+                }
+                first = false;
+                this.emitter.writeMemberName(String.valueOf(entry.getKey()));
+                this.value(value);
+            }
+        }
+        this.emitter.writeObjectClose();
+    }
+
+    private void array(@NotNull final Iterable<?> values) throws IOException {
+        this.emitter.writeArrayOpen();
+        boolean first = true;
+        for (final Object value : values) {
+            if (SectionEmitter.isSupported(value)) {
+                if (!first) {
+                    this.emitter.writeArraySeparator();
+                }
+                first = false;
+                this.value(value);
+            }
+        }
+        this.emitter.writeArrayClose();
+    }
+
+    private void value(@NotNull final Object value) throws IOException {
+        if (value instanceof Boolean) {
+            this.emitter.writeValue((boolean) value);
+        } else if (value instanceof Integer) {
+            this.emitter.writeValue((int) value);
+        } else if (value instanceof Long) {
+            this.emitter.writeValue((long) value);
+        } else if (value instanceof Float) {
+            this.emitter.writeValue((float) value);
+        } else if (value instanceof Double) {
+            this.emitter.writeValue((double) value);
+        } else if (value instanceof String) {
+            this.emitter.writeValue((String) value);
+        } else if (value instanceof Iterable<?>) {
+            this.array((Iterable<?>) value);
+        } else if (value instanceof Map<?, ?>) {
+            this.object((Map<?, ?>) value);
+        } else if (value instanceof ConfigurationSection) {
+            this.object(SectionEmitter.values((ConfigurationSection) value));
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.configs.files.json;
+
+import io.github.portlek.configs.configuration.ConfigurationSection;
+import io.github.portlek.configs.files.SectionBuilder;
+import io.github.portlek.configs.files.json.minimaljson.JsonHandler;
+import io.github.portlek.configs.util.GeneralUtilities;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link JsonHandler} which writes the parsed values straight into a
+ * {@link ConfigurationSection} through a {@link SectionBuilder}.
+ * Objects inside arrays are kept as {@link Map}s and nulls are skipped,
+ * except a null member of the root object, which removes the value at
+ * its path. That is how {@link JsonLinesConfiguration} records a removal.
+ */
+final class SectionHandler extends JsonHandler<List<Object>, Object> {
+
+    @NotNull
+    private final ConfigurationSection section;
+
+    @NotNull
+    private final SectionBuilder builder;
+
+    @NotNull
+    private final Consumer<String> removal;
+
+    SectionHandler(@NotNull final ConfigurationSection section) {
+        this(section, name -> section.set(name, null));
+    }
+
+    /**
+     * Creates a handler which passes the names of the null members of the root object to the given
+     * consumer instead of removing them.
+     */
+    SectionHandler(@NotNull final ConfigurationSection section, @NotNull final Consumer<String> removal) {
+        this.section = section;
+        this.builder = new SectionBuilder(section);
+        this.removal = removal;
+    }
+
+    /**
+     * Gets the value which was parsed, once the parser is done.
+     */
+    @Nullable
+    Object getValue() {
+        return this.builder.getValue();
+    }
+
+    @Override
+    public void endNull() {
+        this.builder.setValue(null);
+    }
+
+    @Override
+    public void endBoolean(final boolean bool) {
+        this.builder.setValue(bool);
+    }
+
+    @Override
+    public void endString(final String string) {
+        this.builder.setValue(string);
+    }
+
+    @Override
+    public void endNumber(final String string) {
+        this.builder.setValue(GeneralUtilities.parseNumber(string));
+    }
+
+    @Override
+    public List<Object> startArray() {
+        return this.builder.startList();
+    }
+
+    @Override
+    public void endArray(final List<Object> array) {
+        this.builder.endList(array);
+    }
+
+    @Override
+    public void startArrayValue(final List<Object> array) {
+        this.builder.startListValue(array);
+    }
+
+    @Override
+    public void endArrayValue(final List<Object> array) {
+        this.builder.endListValue(array);
+    }
+
+    @Override
+    public Object startObject() {
+        return this.builder.startMap();
+    }
+
+    @Override
+    public void endObject(final Object object) {
+        this.builder.endMap(object);
+    }
+
+    @Override
+    public void startObjectValue(final Object object, final String name) {
+        this.builder.startMapValue(object, name);
+    }
+
+    @Override
+    public void endObjectValue(final Object object, final String name) {
+        if (object == this.section && this.builder.getValue() == null) {
+            this.removal.accept(name);
+            return;
+        }
+        this.builder.endMapValue(object, name);
+    }
+
+}
@@ -325,7 +325,7 @@ public final class Json {
         return handler.getValue();
     }
 
-    private static String cutOffPointZero(final String string) {
+    static String cutOffPointZero(final String string) {
         if (string.endsWith(".0")) {
             return string.substring(0, string.length() - 2);
         }
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2015 EclipseSource.
+ *
+ * Permission is hereby granted, free from charge, to any person obtaining a copy
+ * from this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies from the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions from the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package io.github.portlek.configs.files.json.minimaljson;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes JSON token by token into a writer, formatted by a {@link WriterConfig}, without building
+ * any {@link JsonValue}. The caller is responsible for the structure: it opens and closes objects and
+ * arrays and writes the separators between their members and elements, the same way
+ * {@link JsonValue#writeTo(Writer, WriterConfig)} does.
+ * <p>
+ * The tokens are collected in a small buffer which is written to the underlying writer when it is full
+ * and on {@link #flush()}. The underlying writer itself is neither flushed nor closed.
+ * </p>
+ */
+public final class JsonEmitter implements Flushable {
+
+    private final WritingBuffer buffer;
+
+    private final JsonWriter writer;
+
+    /**
+     * Creates a new emitter which writes to the given writer.
+     *
+     * @param writer the writer to write the tokens to
+     * @param config a configuration that controls the formatting
+     */
+    public JsonEmitter(final Writer writer, final WriterConfig config) {
+        if (writer == null) {
+            throw new NullPointerException("writer is null");
+        }
+        if (config == null) {
+            throw new NullPointerException("config is null");
+        }
+        this.buffer = new WritingBuffer(writer, 128);
+        this.writer = config.createWriter(this.buffer);
+    }
+
+    public void writeObjectOpen() throws IOException {
+        this.writer.writeObjectOpen();
+    }
+
+    public void writeObjectClose() throws IOException {
+        this.writer.writeObjectClose();
+    }
+
+    public void writeObjectSeparator() throws IOException {
+        this.writer.writeObjectSeparator();
+    }
+
+    /**
+     * Writes the name from an object member, followed by the member separator.
+     *
+     * @param name the name from the member
+     * @throws IOException if an I/O error occurs in the writer
+     */
+    public void writeMemberName(final String name) throws IOException {
+        this.writer.writeMemberName(name);
+        this.writer.writeMemberSeparator();
+    }
+
+    public void writeArrayOpen() throws IOException {
+        this.writer.writeArrayOpen();
+    }
+
+    public void writeArrayClose() throws IOException {
+        this.writer.writeArrayClose();
+    }
+
+    public void writeArraySeparator() throws IOException {
+        this.writer.writeArraySeparator();
+    }
+
+    public void writeNull() throws IOException {
+        this.writer.writeLiteral("null");
+    }
+
+    public void writeValue(final boolean value) throws IOException {
+        this.writer.writeLiteral(value ? "true" : "false");
+    }
+
+    public void writeValue(final int value) throws IOException {
+        this.writer.writeNumber(Integer.toString(value, 10));
+    }
+
+    public void writeValue(final long value) throws IOException {
+        this.writer.writeNumber(Long.toString(value, 10));
+    }
+
+    /**
+     * Writes the given <code>float</code> value the same way {@link Json#value(float)} represents it.
+     *
+     * @param value the value to write
+     * @throws IOException if an I/O error occurs in the writer
+     * @throws IllegalArgumentException if the value is infinite or not a number
+     */
+    public void writeValue(final float value) throws IOException {
+        if (Float.isInfinite(value) || Float.isNaN(value)) {
+            throw new IllegalArgumentException(Json.INFINITE_AND_NAN);
+        }
+        this.writer.writeNumber(Json.cutOffPointZero(Float.toString(value)));
+    }
+
+    /**
+     * Writes the given <code>double</code> value the same way {@link Json#value(double)} represents it.
+     *
+     * @param value the value to write
+     * @throws IOException if an I/O error occurs in the writer
+     * @throws IllegalArgumentException if the value is infinite or not a number
+     */
+    public void writeValue(final double value) throws IOException {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            throw new IllegalArgumentException(Json.INFINITE_AND_NAN);
+        }
+        this.writer.writeNumber(Json.cutOffPointZero(Double.toString(value)));
+    }
+
+    public void writeValue(final String value) throws IOException {
+        if (value == null) {
+            this.writeNull();
+        } else {
+            this.writer.writeString(value);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.buffer.flush();
+    }
+
+}
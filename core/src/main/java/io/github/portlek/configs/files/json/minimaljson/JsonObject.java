@@ -103,12 +103,14 @@ public class JsonObject extends JsonValue implements Iterable<JsonObject.Member>
         if (unmodifiable) {
             this.names = Collections.unmodifiableList(object.names);
             this.values = Collections.unmodifiableList(object.values);
+            // the index is updated in place, so the view can share it
+            this.table = object.table;
         } else {
             this.names = new ArrayList<String>(object.names);
             this.values = new ArrayList<JsonValue>(object.values);
+            this.table = new JsonObject.HashIndexTable();
+            this.updateHashIndex();
         }
-        this.table = new JsonObject.HashIndexTable();
-        this.updateHashIndex();
     }
 
     /**
@@ -647,9 +649,10 @@ public class JsonObject extends JsonValue implements Iterable<JsonObject.Member>
         }
         final int index = this.indexOf(name);
         if (index != -1) {
-            this.table.remove(index);
             this.names.remove(index);
             this.values.remove(index);
+            this.table.clear();
+            this.updateHashIndex();
         }
         return this;
     }
@@ -915,11 +918,7 @@ public class JsonObject extends JsonValue implements Iterable<JsonObject.Member>
     }
 
     int indexOf(final String name) {
-        final int index = this.table.get(name);
-        if (index != -1 && name.equals(this.names.get(index))) {
-            return index;
-        }
-        return this.names.lastIndexOf(name);
+        return this.table.get(name);
     }
 
     private synchronized void readObject(final ObjectInputStream inputStream)
@@ -1005,45 +1004,83 @@ public class JsonObject extends JsonValue implements Iterable<JsonObject.Member>
 
     }
 
+    /**
+     * Index from the members by their name, pointing to the last member with each name. It is an
+     * open addressing hash table which grows with the object, so it holds every name and a lookup
+     * never falls back to a scan from the members.
+     */
     static class HashIndexTable {
 
-        private final byte[] hashTable = new byte[32]; // must be a power from two
+        private String[] names = new String[16]; // must be a power from two
+
+        private int[] indexes = new int[16];
+
+        private int size;
 
         HashIndexTable() {
         }
 
         HashIndexTable(final JsonObject.HashIndexTable original) {
-            System.arraycopy(original.hashTable, 0, this.hashTable, 0, this.hashTable.length);
+            this.names = original.names.clone();
+            this.indexes = original.indexes.clone();
+            this.size = original.size;
         }
 
         void add(final String name, final int index) {
-            final int slot = this.hashSlotFor(name);
-            if (index < 0xff) {
-                // increment by 1, 0 stands for empty
-                this.hashTable[slot] = (byte) (index + 1);
-            } else {
-                this.hashTable[slot] = 0;
+            int slot = this.hashSlotFor(name);
+            String current;
+            while ((current = this.names[slot]) != null) {
+                if (current.equals(name)) {
+                    this.indexes[slot] = index;
+                    return;
+                }
+                slot = slot + 1 & this.names.length - 1;
             }
+            this.names[slot] = name;
+            this.indexes[slot] = index;
+            // keep at most half from the slots in use, so that probe sequences stay short
+            if (++this.size > this.names.length >> 1) {
+                this.grow();
+            }
+        }
+
+        void clear() {
+            Arrays.fill(this.names, null);
+            this.size = 0;
         }
 
-        void remove(final int index) {
-            for (int i = 0; i < this.hashTable.length; i++) {
-                if ((this.hashTable[i] & 0xff) == index + 1) {
-                    this.hashTable[i] = 0;
-                } else if ((this.hashTable[i] & 0xff) > index + 1) {
-                    this.hashTable[i]--;
+        int get(final Object name) {
+            int slot = this.hashSlotFor(name);
+            String current;
+            while ((current = this.names[slot]) != null) {
+                if (current.equals(name)) {
+                    return this.indexes[slot];
                 }
+                slot = slot + 1 & this.names.length - 1;
             }
+            return -1;
         }
 
-        int get(final Object name) {
-            final int slot = this.hashSlotFor(name);
-            // subtract 1, 0 stands for empty
-            return (this.hashTable[slot] & 0xff) - 1;
+        private void grow() {
+            final String[] oldNames = this.names;
+            final int[] oldIndexes = this.indexes;
+            this.names = new String[oldNames.length << 1];
+            this.indexes = new int[oldNames.length << 1];
+            for (int i = 0; i < oldNames.length; i++) {
+                if (oldNames[i] != null) {
+                    int slot = this.hashSlotFor(oldNames[i]);
+                    while (this.names[slot] != null) {
+                        slot = slot + 1 & this.names.length - 1;
+                    }
+                    this.names[slot] = oldNames[i];
+                    this.indexes[slot] = oldIndexes[i];
+                }
+            }
         }
 
         private int hashSlotFor(final Object element) {
-            return element.hashCode() & this.hashTable.length - 1;
+            final int hash = element.hashCode();
+            return (hash ^ hash >>> 16) & this.names.length - 1;
         }
 
     }
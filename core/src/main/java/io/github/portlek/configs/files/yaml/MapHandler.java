@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.yaml;
+
+import io.github.portlek.configs.files.SectionBuilder;
+import io.github.portlek.configs.files.yaml.eoyaml.YamlHandler;
+import io.github.portlek.configs.util.GeneralUtilities;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link YamlHandler} which reads the parsed values into plain {@link Map}s and {@link List}s through a
+ * {@link SectionBuilder} without a section, typing the scalars the same way {@link SectionHandler} does. It touches
+ * no section, so it can run on any thread.
+ */
+final class MapHandler extends YamlHandler<List<Object>, Object> {
+
+    @NotNull
+    private final SectionBuilder builder = new SectionBuilder(null);
+
+    @Nullable
+    Object getValue() {
+        return this.builder.getValue();
+    }
+
+    @Override
+    public void endNull() {
+        this.builder.setValue(null);
+    }
+
+    @Override
+    public void endScalar(final String string) {
+        this.builder.setValue(GeneralUtilities.parseScalar(string));
+    }
+
+    @Override
+    public List<Object> startSequence() {
+        return this.builder.startList();
+    }
+
+    @Override
+    public void endSequence(final List<Object> sequence) {
+        this.builder.endList(sequence);
+    }
+
+    @Override
+    public void endSequenceValue(final List<Object> sequence) {
+        this.builder.endListValue(sequence);
+    }
+
+    @Override
+    public Object startMapping() {
+        return this.builder.startMap();
+    }
+
+    @Override
+    public void endMapping(final Object mapping) {
+        this.builder.endMap(mapping);
+    }
+
+    @Override
+    public void endMappingValue(final Object mapping, final String name) {
+        this.builder.endMapValue(mapping, name);
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.yaml;
+
+import io.github.portlek.configs.configuration.ConfigurationSection;
+import io.github.portlek.configs.files.yaml.eoyaml.YamlParser;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Loads a YAML document into a {@link ConfigurationSection} by splitting it at its top-level keys, parsing
+ * groups of those blocks on the common {@link ForkJoinPool} and merging them into the section in their order.
+ * <p>
+ * Documents which cannot be split this way, such as multi-document streams or root sequences, and documents
+ * which fail to parse, are loaded by a single {@link YamlParser} on the calling thread, so they load and fail
+ * exactly as they do without this loader.
+ */
+final class ParallelLoader {
+
+    /**
+     * How many tasks each thread of the pool gets, to even out blocks of different sizes.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    @NotNull
+    private final ConfigurationSection section;
+
+    ParallelLoader(@NotNull final ConfigurationSection section) {
+        this.section = section;
+    }
+
+    void load(@NotNull final BufferedReader reader) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        if (!lines.isEmpty() && !lines.get(0).isEmpty() && lines.get(0).charAt(0) == '\uFEFF') {
+            lines.set(0, lines.get(0).substring(1));
+        }
+        final List<Map<?, ?>> blocks = ParallelLoader.parse(lines, ParallelLoader.blocks(lines));
+        if (blocks == null) {
+            new YamlParser(new SectionHandler(this.section)).parse(String.join("\n", lines));
+            return;
+        }
+        for (final Map<?, ?> block : blocks) {
+            for (final Map.Entry<?, ?> entry : block.entrySet()) {
+                final String key = entry.getKey().toString();
+                if (entry.getValue() instanceof Map<?, ?>) {
+                    this.section.createSection(key, (Map<?, ?>) entry.getValue());
+                } else {
+                    this.section.set(key, entry.getValue());
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private static int[] blocks(@NotNull final List<String> lines) {
+        final int[] starts = new int[lines.size()];
+        int count = 0;
+        for (int index = 0; index < lines.size(); index++) {
+            final String line = lines.get(index);
+            if (line.isEmpty()) {
+                continue;
+            }
+            final char first = line.charAt(0);
+            if (first == ' ' || first == '\t' || first == '#') {
+                continue;
+            }
+            if (first == '-' && (line.length() == 1 || line.charAt(1) == ' ')) {
+                if (count == 0) {
+                    return null;
+                }
+                continue;
+            }
+            if (first == '[' || first == '{' || first == '%' || line.startsWith("---") || line.startsWith("...")) {
+                return null;
+            }
+            starts[count++] = index;
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    @NotNull
+    private static Map<?, ?> parse(@NotNull final List<String> lines) {
+        final StringBuilder builder = new StringBuilder();
+        for (final String line : lines) {
+            builder.append(line).append('\n');
+        }
+        final MapHandler handler = new MapHandler();
+        new YamlParser(handler).parse(builder.toString());
+        final Object value = handler.getValue();
+        if (value == null) {
+            return Collections.emptyMap();
+        }
+        if (!(value instanceof Map<?, ?>)) {
+            throw new IllegalStateException("A top-level block is not a mapping!");
+        }
+        return (Map<?, ?>) value;
+    }
+
+    @Nullable
+    private static List<Map<?, ?>> parse(@NotNull final List<String> lines, @Nullable final int[] starts) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (starts == null || parallelism < 2) {
+            return null;
+        }
+        final int tasks = Math.min(starts.length, parallelism * ParallelLoader.TASKS_PER_THREAD);
+        if (tasks < 2) {
+            return null;
+        }
+        final int[] bounds = new int[tasks + 1];
+        for (int task = 1; task < tasks; task++) {
+            bounds[task] = starts[(int) ((long) starts.length * task / tasks)];
+        }
+        bounds[tasks] = lines.size();
+        try {
+            return IntStream.range(0, tasks)
+                .parallel()
+                .mapToObj(task -> ParallelLoader.parse(lines.subList(bounds[task], bounds[task + 1])))
+                .collect(Collectors.toList());
+        } catch (final RuntimeException exception) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.yaml;
+
+import io.github.portlek.configs.configuration.Configuration;
+import io.github.portlek.configs.configuration.ConfigurationSection;
+import io.github.portlek.configs.configuration.MemorySection;
+import io.github.portlek.configs.files.yaml.eoyaml.ReflectedYamlDump;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes the values of a {@link ConfigurationSection} as YAML straight into a {@link Writer}, walking the
+ * sections as they are, without building any intermediate YAML node.
+ */
+final class SectionEmitter {
+
+    /**
+     * Characters which make a scalar quoted wherever they are.
+     */
+    private static final String RESERVED = "#:->|$%&";
+
+    /**
+     * Characters which make a scalar quoted when it starts with them.
+     */
+    private static final String INDICATORS = "[]{}!*?,'\"@`~";
+
+    @NotNull
+    private final Writer writer;
+
+    @NotNull
+    private final String newLine = System.lineSeparator();
+
+    private boolean empty = true;
+
+    SectionEmitter(@NotNull final Writer writer) {
+        this.writer = writer;
+    }
+
+    void emit(@NotNull final ConfigurationSection section) throws IOException {
+        this.mapping(SectionEmitter.values(section), 0);
+    }
+
+    @NotNull
+    private static Map<?, ?> values(@NotNull final ConfigurationSection section) {
+        final Configuration root = section.getRoot();
+        if (section instanceof MemorySection && (root == null || !root.options().copyDefaults())) {
+            return ((MemorySection) section).getLocalValues();
+        }
+        return section.getValues(false);
+    }
+
+    private static boolean isSupported(final Object value) {
+        return value instanceof ConfigurationSection ||
+            value instanceof Map<?, ?> ||
+            value instanceof Collection<?> ||
+            value != null && ReflectedYamlDump.SCALAR_TYPES.contains(value.getClass());
+    }
+
+    private static boolean isEmpty(@NotNull final Collection<?> values) {
+        for (final Object value : values) {
+            if (SectionEmitter.isSupported(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private static String escape(@NotNull final String value) {
+        if (value.isEmpty()) {
+            return "\"\"";
+        }
+        boolean quoted = Character.isWhitespace(value.charAt(0)) ||
+            Character.isWhitespace(value.charAt(value.length() - 1)) ||
+            SectionEmitter.INDICATORS.indexOf(value.charAt(0)) >= 0;
+        for (int index = 0; !quoted && index < value.length(); index++) {
+            quoted = SectionEmitter.RESERVED.indexOf(value.charAt(index)) >= 0;
+        }
+        if (!quoted) {
+            return value;
+        }
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private void mapping(@NotNull final Map<?, ?> values, final int indentation) throws IOException {
+        for (final Map.Entry<?, ?> entry : values.entrySet()) {
+            final Object value = entry.getValue();
+            if (SectionEmitter.isSupported(value)) {
+                this.line(indentation);
+                this.writer.write(SectionEmitter.escape(String.valueOf(entry.getKey())));
+                this.writer.write(':');
+                this.node(value, indentation + 2);
+            }
+        }
+    }
+
+    private void sequence(@NotNull final Collection<?> values, final int indentation) throws IOException {
+        for (final Object value : values) {
+            if (SectionEmitter.isSupported(value)) {
+                this.line(indentation);
+                this.writer.write('-');
+                this.node(value, indentation + 2);
+            }
+        }
+    }
+
+    private void node(@NotNull final Object value, final int indentation) throws IOException {
+        if (value instanceof ConfigurationSection) {
+            this.node(SectionEmitter.values((ConfigurationSection) value), indentation);
+        } else if (value instanceof Map<?, ?>) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            if (SectionEmitter.isEmpty(map.values())) {
+                this.writer.write(" {}");
+            } else {
+                this.mapping(map, indentation);
+            }
+        } else if (value instanceof Collection<?>) {
+            final Collection<?> collection = (Collection<?>) value;
+            if (SectionEmitter.isEmpty(collection)) {
+                this.writer.write(" []");
+            } else {
+                this.sequence(collection, indentation);
+            }
+        } else {
+            this.scalar(String.valueOf(value), indentation);
+        }
+    }
+
+    private void scalar(@NotNull final String value, final int indentation) throws IOException {
+        if (value.indexOf('\n') < 0) {
+            this.writer.write(' ');
+            this.writer.write(SectionEmitter.escape(value));
+            return;
+        }
+        final boolean keep = value.charAt(value.length() - 1) == '\n';
+        this.writer.write(keep ? " |+" : " |");
+        final String[] lines = value.split("\n", -1);
+        final int count = keep ? lines.length - 1 : lines.length;
+        for (int index = 0; index < count; index++) {
+            if (lines[index].isEmpty()) {
+                this.writer.write(this.newLine);
+            } else {
+                this.line(indentation);
+                this.writer.write(lines[index]);
+            }
+        }
+    }
+
+    private void line(final int indentation) throws IOException {
+        if (this.empty) {
+            this.empty = false;
+        } else {
+            this.writer.write(this.newLine);
+        }
+        for (int index = 0; index < indentation; index++) {
+            this.writer.write(' ');
+        }
+    }
+
+}
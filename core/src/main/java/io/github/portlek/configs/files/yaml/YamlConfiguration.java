@@ -26,10 +26,14 @@
 package io.github.portlek.configs.files.yaml;
 
 import io.github.portlek.configs.configuration.FileConfiguration;
-import io.github.portlek.configs.files.yaml.eoyaml.Yaml;
+import io.github.portlek.configs.files.yaml.eoyaml.YamlParser;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.io.Reader;
-import java.util.Optional;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import lombok.SneakyThrows;
 import org.jetbrains.annotations.NotNull;
 
@@ -53,14 +57,33 @@ public final class YamlConfiguration extends FileConfiguration {
     @NotNull
     @Override
     public String saveToString() {
-        return Helper.mapAsYamlMapping(this.getValues(false)).toString();
+        final StringWriter writer = new StringWriter();
+        this.save(writer);
+        return writer.toString();
+    }
+
+    @Override
+    public void save(@NotNull final Writer writer) throws IOException {
+        new SectionEmitter(writer).emit(this);
     }
 
     @SneakyThrows
     @Override
     public void loadFromString(@NotNull final String contents) {
-        Optional.ofNullable(Yaml.createYamlInput(contents).readYamlMapping()).ifPresent(t ->
-            Helper.convertMapToSection(t, this));
+        if (this.options().parallel()) {
+            new ParallelLoader(this).load(new BufferedReader(new StringReader(contents)));
+        } else {
+            new YamlParser(new SectionHandler(this)).parse(contents);
+        }
+    }
+
+    @Override
+    protected void loadFromReader(@NotNull final BufferedReader reader) throws IOException {
+        if (this.options().parallel()) {
+            new ParallelLoader(this).load(reader);
+        } else {
+            new YamlParser(new SectionHandler(this)).parse(reader);
+        }
     }
 
     @NotNull
@@ -36,6 +36,8 @@ public class YamlConfigurationOptions extends FileConfigurationOptions {
 
     private int indent = 2;
 
+    private boolean parallel = false;
+
     protected YamlConfigurationOptions(@NotNull final YamlConfiguration configuration) {
         super(configuration);
     }
@@ -60,6 +62,13 @@ public class YamlConfigurationOptions extends FileConfigurationOptions {
         return this;
     }
 
+    @NotNull
+    @Override
+    public final YamlConfigurationOptions pathIndex(final boolean value) {
+        super.pathIndex(value);
+        return this;
+    }
+
     /**
      * Gets how much spaces should be used to indent each line.
      * <p>
@@ -91,4 +100,34 @@ public class YamlConfigurationOptions extends FileConfigurationOptions {
         return this;
     }
 
+    /**
+     * Gets whether the top-level blocks of a document are parsed in
+     * parallel when loading.
+     * <p>
+     * Defaults to false.
+     *
+     * @return Whether to parse in parallel
+     */
+    public final boolean parallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Sets whether the top-level blocks of a document should be parsed in
+     * parallel when loading.
+     * <p>
+     * The document is read whole, split at its top-level keys, parsed on the
+     * common fork-join pool and merged in its order. This pays off for big
+     * documents with many top-level keys, and costs more than it saves for
+     * small ones.
+     *
+     * @param value Whether to parse in parallel
+     * @return This object, for chaining
+     */
+    @NotNull
+    public final YamlConfigurationOptions parallel(final boolean value) {
+        this.parallel = value;
+        return this;
+    }
+
 }
@@ -28,8 +28,11 @@
 package io.github.portlek.configs.files.yaml.eoyaml;
 
 import io.github.portlek.configs.files.yaml.eoyaml.exceptions.YamlReadingException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * YamlLines default implementation. "All" refers to the fact that
@@ -51,6 +54,11 @@ final class AllYamlLines implements YamlLines {
      */
     private final Collection<YamlLine> lines;
 
+    /**
+     * Indentation tree of these lines, built on first use.
+     */
+    private IndentationTree tree;
+
     /**
      * Ctor.
      *
@@ -106,6 +114,45 @@ final class AllYamlLines implements YamlLines {
         return this.lines.iterator();
     }
 
+    /**
+     * The indentation tree of these lines. It is built only once.
+     *
+     * @return IndentationTree.
+     */
+    synchronized IndentationTree tree() {
+        if (this.tree == null) {
+            this.tree = new IndentationTree(this.lines);
+        }
+        return this.tree;
+    }
+
+    /**
+     * The lines coming after the given one, as a view, without copying
+     * or iterating over the lines before it.
+     *
+     * @param previous YamlLine.
+     * @return Lines with a number greater than the previous line's.
+     */
+    AllYamlLines after(final YamlLine previous) {
+        final List<YamlLine> list;
+        if (this.lines instanceof List && this.lines instanceof RandomAccess) {
+            list = (List<YamlLine>) this.lines;
+        } else {
+            list = new ArrayList<>(this.lines);
+        }
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (list.get(mid).number() <= previous.number()) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return new AllYamlLines(list.subList(low, list.size()));
+    }
+
     /**
      * Try to figure out what YAML node (mapping, sequence or scalar) is found
      * after the given line.
@@ -120,15 +167,7 @@ final class AllYamlLines implements YamlLines {
         final boolean guessIndentation
     ) {
         final YamlNode node;
-        final YamlLine first = new Skip(
-            this,
-            line -> line.number() <= prev.number(),
-            line -> line.trimmed().startsWith("#"),
-            line -> line.trimmed().startsWith("---"),
-            line -> line.trimmed().startsWith("..."),
-            line -> line.trimmed().startsWith("%"),
-            line -> line.trimmed().startsWith("!!")
-        ).iterator().next();
+        final YamlLine first = this.tree().first(prev);
         if (first.trimmed().startsWith("-")) {
             node = new ReadYamlSequence(prev, this, guessIndentation);
         } else if (first.trimmed().contains(":")) {
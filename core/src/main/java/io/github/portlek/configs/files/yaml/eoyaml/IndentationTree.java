@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Indentation tree of some YAML lines, built in a single pass.<br><br>
+ * Comments, document markers and directives are classified and left out
+ * once, the remaining lines are checked for correct indentation once
+ * (the same way {@link WellIndented} does it) and every line knows where
+ * the block nested under it ends. Finding the lines of a mapping or sequence
+ * is then a walk over sibling ranges, instead of filtering the whole document
+ * through {@link Skip}, {@link WellIndented} and {@link SameIndentationLevel}
+ * every time.
+ *
+ * @since 5.1.0
+ */
+final class IndentationTree {
+
+    /**
+     * Significant lines, as they are, without indentation checks.
+     */
+    private final List<YamlLine> significant;
+
+    /**
+     * Numbers of the significant lines, for binary search.
+     */
+    private final int[] numbers;
+
+    /**
+     * Well indented significant lines, built on first use.
+     */
+    private List<YamlLine> indented;
+
+    /**
+     * Guess indentation flag the well indented lines were built with.
+     */
+    private boolean guessed;
+
+    /**
+     * Index of the first line after the block nested under each line.
+     */
+    private int[] ends;
+
+    /**
+     * Ctor.
+     *
+     * @param lines All the lines of the document.
+     */
+    IndentationTree(final Collection<YamlLine> lines) {
+        this.significant = new ArrayList<>(lines.size());
+        for (final YamlLine line : lines) {
+            if (IndentationTree.isSignificant(line)) {
+                this.significant.add(line);
+            }
+        }
+        this.numbers = new int[this.significant.size()];
+        for (int idx = 0; idx < this.numbers.length; idx++) {
+            this.numbers[idx] = this.significant.get(idx).number();
+        }
+    }
+
+    /**
+     * Is this line part of a node? Comments, document start/end
+     * markers, directives and tags are not.
+     *
+     * @param line YamlLine.
+     * @return True or false.
+     */
+    static boolean isSignificant(final YamlLine line) {
+        final String trimmed = line.trimmed();
+        return !trimmed.startsWith("#")
+            && !trimmed.startsWith("---")
+            && !trimmed.startsWith("...")
+            && !trimmed.startsWith("%")
+            && !trimmed.startsWith("!!");
+    }
+
+    /**
+     * The first significant line after the given one.
+     *
+     * @param previous Previous YamlLine.
+     * @return YamlLine.
+     * @throws NoSuchElementException If there is no such line.
+     */
+    YamlLine first(final YamlLine previous) {
+        final int start = this.start(previous.number());
+        if (start >= this.significant.size()) {
+            throw new NoSuchElementException(
+                "No YAML line found after line " + (previous.number() + 1)
+            );
+        }
+        return this.significant.get(start);
+    }
+
+    /**
+     * The well indented lines which are at the same indentation level
+     * with the first significant line after the given one. Iteration
+     * stops at the first line with a smaller indentation.
+     *
+     * @param previous Previous YamlLine.
+     * @param guessIndentation If true, we will try to guess the correct
+     * indentation of misplaced lines.
+     * @return Lines at the same level.
+     */
+    synchronized List<YamlLine> level(
+        final YamlLine previous,
+        final boolean guessIndentation
+    ) {
+        final List<YamlLine> lines = this.indented(guessIndentation);
+        final int start = this.start(previous.number());
+        if (start >= lines.size()) {
+            return Collections.emptyList();
+        }
+        final List<YamlLine> level = new ArrayList<>();
+        final YamlLine first = lines.get(start);
+        level.add(first);
+        int indentation = first.indentation();
+        if (first.trimmed().matches("^[ ]*\\-.*\\:.+$")) {
+            indentation += 2;
+        }
+        int idx = start + 1;
+        while (idx < lines.size()) {
+            final int current = lines.get(idx).indentation();
+            if (current < indentation) {
+                break;
+            }
+            if (current == indentation) {
+                level.add(lines.get(idx));
+            }
+            idx = this.ends[idx];
+        }
+        return Collections.unmodifiableList(level);
+    }
+
+    /**
+     * Index of the first significant line with a number greater than
+     * the given one.
+     *
+     * @param number Line number.
+     * @return Index in the significant lines.
+     */
+    private int start(final int number) {
+        int low = 0;
+        int high = this.numbers.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.numbers[mid] <= number) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The significant lines, verified by {@link WellIndented}, together
+     * with the end of the nested block of each one.
+     *
+     * @param guessIndentation If true, we will try to guess the correct
+     * indentation of misplaced lines.
+     * @return Well indented lines.
+     */
+    private List<YamlLine> indented(final boolean guessIndentation) {
+        if (this.indented == null || this.guessed != guessIndentation) {
+            final List<YamlLine> lines = new ArrayList<>(this.significant.size());
+            for (final YamlLine line : new WellIndented(
+                new AllYamlLines(this.significant), guessIndentation
+            )) {
+                lines.add(line);
+            }
+            final int[] nested = new int[lines.size()];
+            final int[] stack = new int[lines.size()];
+            int top = 0;
+            for (int idx = lines.size() - 1; idx >= 0; idx--) {
+                final int indentation = lines.get(idx).indentation();
+                while (top > 0
+                    && lines.get(stack[top - 1]).indentation() > indentation
+                ) {
+                    top--;
+                }
+                if (top == 0) {
+                    nested[idx] = lines.size();
+                } else {
+                    nested[idx] = stack[top - 1];
+                }
+                stack[top++] = idx;
+            }
+            this.ends = nested;
+            this.guessed = guessIndentation;
+            this.indented = lines;
+        }
+        return this.indented;
+    }
+
+}
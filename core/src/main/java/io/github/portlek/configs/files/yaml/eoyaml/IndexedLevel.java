@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The lines of a YAML mapping or sequence, found after a given line.
+ * Same as
+ * <pre>
+ *  new SameIndentationLevel(
+ *      new WellIndented(
+ *          new Skip(
+ *              lines,
+ *              line -&gt; line.number() &lt;= previous.number(),
+ *              ...//comments, markers and directives
+ *          )
+ *      )
+ *  )
+ * </pre>
+ * but walks the {@link IndentationTree} of the document, so it does not
+ * scan all the remaining lines of the document. The lines are looked up
+ * only once, on the first iteration.
+ *
+ * @since 5.1.0
+ */
+final class IndexedLevel implements YamlLines {
+
+    /**
+     * All the lines of the document.
+     */
+    private final AllYamlLines all;
+
+    /**
+     * Line just before the start of the node.
+     */
+    private final YamlLine previous;
+
+    /**
+     * If set to true we will try to guess the correct indentation
+     * of misplaced lines.
+     */
+    private final boolean guessIndentation;
+
+    /**
+     * The lines at the same level, looked up on first use.
+     */
+    private final Memoized<List<YamlLine>> level;
+
+    /**
+     * Ctor.
+     *
+     * @param all All the lines of the document.
+     * @param previous Line just before the start of the node.
+     * @param guessIndentation If set to true, we will try to guess
+     * the correct indentation of misplaced lines.
+     */
+    IndexedLevel(
+        final AllYamlLines all,
+        final YamlLine previous,
+        final boolean guessIndentation
+    ) {
+        this.all = all;
+        this.previous = previous;
+        this.guessIndentation = guessIndentation;
+        this.level = new Memoized<>(
+            () -> this.all.tree().level(this.previous, this.guessIndentation)
+        );
+    }
+
+    @Override
+    public Collection<YamlLine> original() {
+        return this.all.original();
+    }
+
+    @Override
+    public YamlNode toYamlNode(
+        final YamlLine prev,
+        final boolean guessIndent
+    ) {
+        return this.all.toYamlNode(prev, guessIndent);
+    }
+
+    @Override
+    public Iterator<YamlLine> iterator() {
+        return this.level.get().iterator();
+    }
+
+}
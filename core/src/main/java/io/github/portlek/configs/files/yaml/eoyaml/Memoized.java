@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+import java.util.function.Supplier;
+
+/**
+ * A value computed on first use and served from memory afterwards.
+ * It is safe to share between threads: the value is computed only
+ * once, even if more threads ask for it at the same time. The
+ * computed value may be null.
+ *
+ * @param <T> Type of the value.
+ * @since 5.1.0
+ */
+final class Memoized<T> implements Supplier<T> {
+
+    /**
+     * Computes the value.
+     */
+    private final Supplier<T> origin;
+
+    /**
+     * The computed value.
+     */
+    private T value;
+
+    /**
+     * Whether the value was computed or not.
+     */
+    private volatile boolean done;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Computes the value.
+     */
+    Memoized(final Supplier<T> origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public T get() {
+        if (!this.done) {
+            synchronized (this) {
+                if (!this.done) {
+                    this.value = this.origin.get();
+                    this.done = true;
+                }
+            }
+        }
+        return this.value;
+    }
+
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * YamlMappingBuilder which adds the pairs to itself, in constant time,
+ * instead of copying them into a new builder on every call like
+ * {@link RtYamlMappingBuilder} does. Every add method returns this same
+ * builder. This class is mutable and not thread-safe, it should be used
+ * by one thread, which builds a mapping from many pairs.<br><br>
+ * The builder builds a single mapping: {@link #build(String)} takes its
+ * pairs, and any call after it throws {@link IllegalStateException}.
+ *
+ * @since 5.1.0
+ */
+final class MutableYamlMappingBuilder implements YamlMappingBuilder {
+
+    /**
+     * Added pairs, null once the mapping was built.
+     */
+    private Map<YamlNode, YamlNode> pairs = new LinkedHashMap<>();
+
+    @Override
+    public YamlMappingBuilder add(final String key, final String value) {
+        return this.add(
+            new PlainStringScalar(key),
+            new PlainStringScalar(value)
+        );
+    }
+
+    @Override
+    public YamlMappingBuilder add(final YamlNode key, final String value) {
+        return this.add(key, new PlainStringScalar(value));
+    }
+
+    @Override
+    public YamlMappingBuilder add(final YamlNode key, final YamlNode value) {
+        if (key == null || ((BaseYamlNode) key).isEmpty()) {
+            throw new IllegalArgumentException(
+                "The key in YamlMapping cannot be null or empty!"
+            );
+        }
+        this.pairs().put(key, value);
+        return this;
+    }
+
+    @Override
+    public YamlMappingBuilder add(final String key, final YamlNode value) {
+        return this.add(new PlainStringScalar(key), value);
+    }
+
+    @Override
+    public YamlMapping build(final String comment) {
+        final Map<YamlNode, YamlNode> built = this.pairs();
+        this.pairs = null;
+        return new RtYamlMapping(built, comment);
+    }
+
+    /**
+     * The pairs added so far.
+     *
+     * @return Added pairs.
+     * @throws IllegalStateException If the mapping was built already.
+     */
+    private Map<YamlNode, YamlNode> pairs() {
+        if (this.pairs == null) {
+            throw new IllegalStateException(
+                "The mapping was built already, use a new builder"
+            );
+        }
+        return this.pairs;
+    }
+
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * YamlSequenceBuilder which adds the nodes to itself, in constant time,
+ * instead of copying them into a new builder on every call like
+ * {@link RtYamlSequenceBuilder} does. Every add method returns this same
+ * builder. This class is mutable and not thread-safe, it should be used
+ * by one thread, which builds a sequence from many nodes.<br><br>
+ * The builder builds a single sequence: {@link #build(String)} takes its
+ * nodes, and any call after it throws {@link IllegalStateException}.
+ *
+ * @since 5.1.0
+ */
+final class MutableYamlSequenceBuilder implements YamlSequenceBuilder {
+
+    /**
+     * Added nodes, null once the sequence was built.
+     */
+    private List<YamlNode> nodes = new ArrayList<>();
+
+    @Override
+    public YamlSequenceBuilder add(final String value) {
+        return this.add(new PlainStringScalar(value));
+    }
+
+    @Override
+    public YamlSequenceBuilder add(final YamlNode node) {
+        this.nodes().add(node);
+        return this;
+    }
+
+    @Override
+    public YamlSequence build(final String comment) {
+        final List<YamlNode> built = this.nodes();
+        this.nodes = null;
+        return new RtYamlSequence(built, comment);
+    }
+
+    /**
+     * The nodes added so far.
+     *
+     * @return Added nodes.
+     * @throws IllegalStateException If the sequence was built already.
+     */
+    private List<YamlNode> nodes() {
+        if (this.nodes == null) {
+            throw new IllegalStateException(
+                "The sequence was built already, use a new builder"
+            );
+        }
+        return this.nodes;
+    }
+
+}
@@ -28,6 +28,7 @@
 package io.github.portlek.configs.files.yaml.eoyaml;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -92,8 +93,7 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
         this.significant = new GreaterIndentation(
             previous,
             new Skip(
-                lines,
-                line -> line.number() <= previous.number(),
+                lines.after(previous),
                 line -> line.trimmed().endsWith(">"),
                 line -> line.trimmed().startsWith("---"),
                 line -> line.trimmed().startsWith("..."),
@@ -135,6 +135,14 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
 
     @Override
     public Comment comment() {
+        int start = -1;
+        if (this.previous.number() < 0) {
+            final Iterator<YamlLine> first = this.significant.iterator();
+            if (first.hasNext()) {
+                start = first.next().number();
+            }
+        }
+        final int firstLine = start;
         //LineLength (50 lines)
         return new ReadComment(
             new Backwards(
@@ -145,12 +153,7 @@ final class ReadFoldedBlockScalar extends BaseFoldedScalar {
                             line -> {
                                 final boolean skip;
                                 if (this.previous.number() < 0) {
-                                    if (this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                            .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
+                                    skip = firstLine >= 0 && line.number() >= firstLine;
                                 } else {
                                     skip = line.number() >= this.previous.number();
                                 }
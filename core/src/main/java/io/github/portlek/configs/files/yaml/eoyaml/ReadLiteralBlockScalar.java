@@ -89,8 +89,7 @@ final class ReadLiteralBlockScalar extends BaseScalar {
         this.significant = new GreaterIndentation(
             previous,
             new Skip(
-                lines,
-                line -> line.number() <= previous.number(),
+                lines.after(previous),
                 line -> line.trimmed().endsWith("|"),
                 line -> line.trimmed().startsWith("---"),
                 line -> line.trimmed().startsWith("..."),
@@ -120,6 +119,14 @@ final class ReadLiteralBlockScalar extends BaseScalar {
 
     @Override
     public Comment comment() {
+        int start = -1;
+        if (this.previous.number() < 0) {
+            final Iterator<YamlLine> first = this.significant.iterator();
+            if (first.hasNext()) {
+                start = first.next().number();
+            }
+        }
+        final int firstLine = start;
         return new ReadComment(
             //LineLength (50 lines)
             new Backwards(
@@ -130,12 +137,7 @@ final class ReadLiteralBlockScalar extends BaseScalar {
                             line -> {
                                 final boolean skip;
                                 if (this.previous.number() < 0) {
-                                    if (this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                            .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
+                                    skip = firstLine >= 0 && line.number() >= firstLine;
                                 } else {
                                     skip = line.number() >= this.previous.number();
                                 }
@@ -50,6 +50,11 @@ final class ReadPlainScalar extends BaseScalar {
      */
     private final YamlLine scalar;
 
+    /**
+     * Value of this scalar, read on first use.
+     */
+    private final Memoized<String> value;
+
     /**
      * Constructor.
      *
@@ -59,6 +64,7 @@ final class ReadPlainScalar extends BaseScalar {
     ReadPlainScalar(final AllYamlLines all, final YamlLine scalar) {
         this.all = all;
         this.scalar = scalar;
+        this.value = new Memoized<>(this::read);
     }
 
     /**
@@ -67,10 +73,19 @@ final class ReadPlainScalar extends BaseScalar {
      * "null" is a reserved keyword in YAML, indicating a null Scalar.
      *
      * @return String or null if the Strings value is "null".
-     * ReturnCount (50 lines)
      */
     @Override
     public String value() {
+        return this.value.get();
+    }
+
+    /**
+     * Read the value of this scalar from its line.
+     *
+     * @return String value.
+     * ReturnCount (50 lines)
+     */
+    private String read() {
         final String value;
         final String trimmed = this.scalar.trimmed();
         if (trimmed.contains(":") && trimmed.charAt(trimmed.length() - 1) != ':') {
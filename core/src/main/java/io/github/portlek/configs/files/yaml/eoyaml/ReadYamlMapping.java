@@ -28,9 +28,13 @@
 package io.github.portlek.configs.files.yaml.eoyaml;
 
 import io.github.portlek.configs.files.yaml.eoyaml.exceptions.YamlReadingException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * YamlMapping read from somewhere. YAML directives and
@@ -77,6 +81,21 @@ final class ReadYamlMapping extends BaseYamlMapping {
      */
     private final YamlLine previous;
 
+    /**
+     * Keys of this mapping, read on first use.
+     */
+    private final Memoized<Set<YamlNode>> keys;
+
+    /**
+     * Lines of this mapping by their String keys, indexed on first use.
+     */
+    private final Memoized<Map<String, YamlLine>> lines;
+
+    /**
+     * Values of this mapping which were already read, by their String keys.
+     */
+    private final Map<String, YamlNode> values = new ConcurrentHashMap<>();
+
     /**
      * Ctor.
      *
@@ -125,25 +144,36 @@ final class ReadYamlMapping extends BaseYamlMapping {
     ) {
         this.previous = previous;
         this.all = lines;
-        this.significant = new SameIndentationLevel(
-            new WellIndented(
-                new Skip(
-                    lines,
-                    line -> line.number() <= previous.number(),
-                    line -> line.trimmed().startsWith("#"),
-                    line -> line.trimmed().startsWith("---"),
-                    line -> line.trimmed().startsWith("..."),
-                    line -> line.trimmed().startsWith("%"),
-                    line -> line.trimmed().startsWith("!!")
-                ),
-                guessIndentation
-            )
+        this.significant = new IndexedLevel(
+            lines, previous, guessIndentation
         );
         this.guessIndentation = guessIndentation;
+        this.keys = new Memoized<>(this::readKeys);
+        this.lines = new Memoized<>(this::index);
     }
 
     @Override
     public Set<YamlNode> keys() {
+        return this.keys.get();
+    }
+
+    @Override
+    public YamlNode value(final YamlNode key) {
+        final YamlNode value;
+        if (key instanceof Scalar) {
+            value = this.valueOfStringKey(((Scalar) key).value());
+        } else {
+            value = this.valueOfNodeKey(key);
+        }
+        return value;
+    }
+
+    /**
+     * Read the keys of this mapping.
+     *
+     * @return Unmodifiable set of keys.
+     */
+    private Set<YamlNode> readKeys() {
         final Set<YamlNode> keys = new LinkedHashSet<>();
         YamlLine prev = new YamlLine.NullYamlLine();
         for (final YamlLine line : this.significant) {
@@ -158,41 +188,29 @@ final class ReadYamlMapping extends BaseYamlMapping {
                     this.significant.toYamlNode(line, this.guessIndentation)
                 );
             } else {
-                if (!trimmed.contains(":")) {
+                final String key = ReadYamlMapping.key(trimmed);
+                if (key == null) {
                     continue;
                 }
-                final String key;
-                if (trimmed.startsWith("-")) {
-                    key = trimmed.substring(
-                        1, trimmed.indexOf(":")
-                    ).trim();
-                } else {
-                    key = trimmed.substring(
-                        0, trimmed.indexOf(":")
-                    ).trim();
-                }
                 if (!key.isEmpty()) {
                     keys.add(new PlainStringScalar(key));
                 }
             }
             prev = line;
         }
-        return keys;
-    }
-
-    @Override
-    public YamlNode value(final YamlNode key) {
-        final YamlNode value;
-        if (key instanceof Scalar) {
-            value = this.valueOfStringKey(((Scalar) key).value());
-        } else {
-            value = this.valueOfNodeKey(key);
-        }
-        return value;
+        return Collections.unmodifiableSet(keys);
     }
 
     @Override
     public Comment comment() {
+        int start = -1;
+        if (this.previous.number() < 0) {
+            final Iterator<YamlLine> first = this.significant.iterator();
+            if (first.hasNext()) {
+                start = first.next().number();
+            }
+        }
+        final int firstLine = start;
         //LineLength (50 lines)
         return new ReadComment(
             new Backwards(
@@ -203,12 +221,7 @@ final class ReadYamlMapping extends BaseYamlMapping {
                             line -> {
                                 final boolean skip;
                                 if (this.previous.number() < 0) {
-                                    if (this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                            .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
+                                    skip = firstLine >= 0 && line.number() >= firstLine;
                                 } else {
                                     skip = line.number() >= this.previous.number();
                                 }
@@ -227,41 +240,138 @@ final class ReadYamlMapping extends BaseYamlMapping {
     }
 
     /**
-     * The YamlNode value associated with a String (scalar) key.
+     * The YamlNode value associated with a String (scalar) key. It is
+     * read only once, later calls get the same node.
      *
      * @param key String key.
-     * @return YamlNode.
-     * ReturnCount (50 lines)
+     * @return YamlNode or null if the key is missing.
      */
     private YamlNode valueOfStringKey(final String key) {
-        YamlNode value = null;
-        final String[] keys = {
-            key,
-            "\"" + key + "\"",
-            "'" + key + "'",
-        };
-        for (final String tryKey : keys) {
-            for (final YamlLine line : this.significant) {
-                final String trimmed = line.trimmed();
-                if (trimmed.endsWith(tryKey + ":")
-                    || trimmed.matches("^" + tryKey + "\\:[ ]*\\>$")
-                    || trimmed.matches("^" + tryKey + "\\:[ ]*\\|$")
-                ) {
-                    value = this.significant.toYamlNode(
-                        line, this.guessIndentation
-                    );
-                } else if ((trimmed.startsWith(tryKey + ":")
-                    || trimmed.startsWith("- " + tryKey + ":"))
-                    && trimmed.length() > 1
-                ) {
-                    value = new ReadPlainScalar(this.all, line);
+        final String unquoted = ReadYamlMapping.unquote(key);
+        YamlNode value = this.values.get(unquoted);
+        if (value == null) {
+            final YamlLine line = this.lines.get().get(unquoted);
+            if (line != null) {
+                value = this.values.computeIfAbsent(
+                    unquoted, ignored -> this.valueOf(line)
+                );
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Index of the lines of this mapping by their un-quoted keys.
+     * If a key appears more than once, the first line wins.
+     *
+     * @return Unmodifiable map of keys to lines.
+     */
+    private Map<String, YamlLine> index() {
+        final Map<String, YamlLine> index = new HashMap<>();
+        YamlLine prev = new YamlLine.NullYamlLine();
+        for (final YamlLine line : this.significant) {
+            final String trimmed = line.trimmed();
+            if (trimmed.startsWith(":")
+                || trimmed.startsWith("-")
+                && !(prev instanceof YamlLine.NullYamlLine)
+            ) {
+                continue;
+            }
+            if (!"?".equals(trimmed)) {
+                final String key = ReadYamlMapping.key(trimmed);
+                if (key == null) {
+                    continue;
                 }
-                if (value != null) {
-                    return value;
+                index.putIfAbsent(ReadYamlMapping.unquote(key), line);
+            }
+            prev = line;
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * The YamlNode value found on the given line of this mapping.
+     *
+     * @param line Line with a String (scalar) key.
+     * @return YamlNode.
+     */
+    private YamlNode valueOf(final YamlLine line) {
+        final String trimmed = line.trimmed();
+        final String rest = trimmed.substring(
+            ReadYamlMapping.colon(trimmed) + 1
+        ).trim();
+        final YamlNode value;
+        if (rest.isEmpty() || ">".equals(rest) || "|".equals(rest)) {
+            value = this.significant.toYamlNode(line, this.guessIndentation);
+        } else {
+            value = new ReadPlainScalar(this.all, line);
+        }
+        return value;
+    }
+
+    /**
+     * The key of the given line, as it is written.
+     *
+     * @param trimmed Trimmed line.
+     * @return Key or null if the line has no key.
+     */
+    private static String key(final String trimmed) {
+        final int colon = ReadYamlMapping.colon(trimmed);
+        final String key;
+        if (colon < 0) {
+            key = null;
+        } else if (trimmed.startsWith("-")) {
+            key = trimmed.substring(1, colon).trim();
+        } else {
+            key = trimmed.substring(0, colon).trim();
+        }
+        return key;
+    }
+
+    /**
+     * Index of the colon ending the key of the given line. If the key is
+     * quoted, the colon is looked up after the closing quote.
+     *
+     * @param trimmed Trimmed line.
+     * @return Index of the colon or -1 if there is none.
+     */
+    private static int colon(final String trimmed) {
+        int start = 0;
+        if (trimmed.startsWith("-")) {
+            start = 1;
+            while (start < trimmed.length() && trimmed.charAt(start) == ' ') {
+                start++;
+            }
+        }
+        if (start < trimmed.length()) {
+            final char first = trimmed.charAt(start);
+            if (first == '"' || first == '\'') {
+                final int close = trimmed.indexOf(first, start + 1);
+                if (close > 0) {
+                    start = close;
                 }
             }
         }
-        return null;
+        return trimmed.indexOf(':', start);
+    }
+
+    /**
+     * Remove the quotes or apostrophes surrounding the given key.
+     *
+     * @param key Key.
+     * @return Key without quotes.
+     */
+    private static String unquote(final String key) {
+        final String unquoted;
+        if (key.length() >= 2
+            && (key.startsWith("\"") && key.endsWith("\"")
+            || key.startsWith("'") && key.endsWith("'"))
+        ) {
+            unquoted = key.substring(1, key.length() - 1);
+        } else {
+            unquoted = key;
+        }
+        return unquoted;
     }
 
     /**
@@ -27,8 +27,10 @@
  */
 package io.github.portlek.configs.files.yaml.eoyaml;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -73,6 +75,11 @@ final class ReadYamlSequence extends BaseYamlSequence {
      */
     private final boolean guessIndentation;
 
+    /**
+     * Values of this sequence, read on first use.
+     */
+    private final Memoized<Collection<YamlNode>> values;
+
     /**
      * Ctor.
      *
@@ -121,26 +128,25 @@ final class ReadYamlSequence extends BaseYamlSequence {
     ) {
         this.previous = previous;
         this.all = lines;
-        this.significant = new SameIndentationLevel(
-            new WellIndented(
-                new Skip(
-                    lines,
-                    line -> line.number() <= previous.number(),
-                    line -> line.trimmed().startsWith("#"),
-                    line -> line.trimmed().startsWith("---"),
-                    line -> line.trimmed().startsWith("..."),
-                    line -> line.trimmed().startsWith("%"),
-                    line -> line.trimmed().startsWith("!!")
-                ),
-                guessIndentation
-            )
+        this.significant = new IndexedLevel(
+            lines, previous, guessIndentation
         );
         this.guessIndentation = guessIndentation;
+        this.values = new Memoized<>(this::readValues);
     }
 
     @Override
     public Collection<YamlNode> values() {
-        final List<YamlNode> kids = new LinkedList<>();
+        return this.values.get();
+    }
+
+    /**
+     * Read the values of this sequence.
+     *
+     * @return Unmodifiable collection of values.
+     */
+    private Collection<YamlNode> readValues() {
+        final List<YamlNode> kids = new ArrayList<>();
         final boolean foldedSequence = this.previous.trimmed().matches(
             "^.*\\|.*\\-$"
         );
@@ -171,11 +177,19 @@ final class ReadYamlSequence extends BaseYamlSequence {
                 }
             }
         }
-        return kids;
+        return Collections.unmodifiableList(kids);
     }
 
     @Override
     public Comment comment() {
+        int start = -1;
+        if (this.previous.number() < 0) {
+            final Iterator<YamlLine> first = this.significant.iterator();
+            if (first.hasNext()) {
+                start = first.next().number();
+            }
+        }
+        final int firstLine = start;
         //LineLength (50 lines)
         return new ReadComment(
             new Backwards(
@@ -186,12 +200,7 @@ final class ReadYamlSequence extends BaseYamlSequence {
                             line -> {
                                 final boolean skip;
                                 if (this.previous.number() < 0) {
-                                    if (this.significant.iterator().hasNext()) {
-                                        skip = line.number() >= this.significant
-                                            .iterator().next().number();
-                                    } else {
-                                        skip = false;
-                                    }
+                                    skip = firstLine >= 0 && line.number() >= firstLine;
                                 } else {
                                     skip = line.number() >= this.previous.number();
                                 }
@@ -31,6 +31,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -87,8 +88,11 @@ final class RtYamlInput implements YamlInput {
     }
 
     @Override
-    public YamlStream readYamlStream() throws IOException {
-        return new ReadYamlStream(this.readInput(), this.guessIndentation);
+    public YamlStream readYamlStream() {
+        return new StreamedYamlStream(
+            new BufferedReader(new InputStreamReader(this.source, StandardCharsets.UTF_8)),
+            this.guessIndentation
+        );
     }
 
     @Override
@@ -131,13 +135,15 @@ final class RtYamlInput implements YamlInput {
         final List<YamlLine> lines = new ArrayList<>();
         try (
             final BufferedReader reader = new BufferedReader(
-                new InputStreamReader(this.source)
+                new InputStreamReader(this.source, StandardCharsets.UTF_8)
             )
         ) {
             String line;
             int number = 0;
             while ((line = reader.readLine()) != null) {
-                final YamlLine current = new RtYamlLine(line, number);
+                final YamlLine current = new CachedYamlLine(
+                    new RtYamlLine(line, number)
+                );
                 if (!current.toString().trim().isEmpty()) {
                     lines.add(current);
                 }
@@ -54,41 +54,21 @@ public interface Scalar extends YamlNode {
      */
     String value();
 
+    /**
+     * Value of this scalar, typed by the YAML 1.2 core schema in a
+     * single pass over its characters.
+     *
+     * @return Integer, Long, Double, Boolean, the String value itself
+     * or null if the value is null.
+     * @see GeneralUtilities#parseScalar(String)
+     */
     @Nullable
     default Object getAsAll() {
-        final Optional<Integer> optional1 = this.getAsInteger();
-        if (optional1.isPresent()) {
-            return optional1.get();
-        }
-        final Optional<Long> optional2 = this.getAsLong();
-        if (optional2.isPresent()) {
-            return optional2.get();
-        }
-        final Optional<Float> optional3 = this.getAsFloat();
-        if (optional3.isPresent()) {
-            return optional3.get();
-        }
-        final Optional<Double> optional4 = this.getAsDouble();
-        if (optional4.isPresent()) {
-            return optional4.get();
-        }
-        final Optional<Short> optional5 = this.getAsShort();
-        if (optional5.isPresent()) {
-            return optional5.get();
-        }
-        final Optional<Boolean> optional6 = this.getAsBoolean();
-        if (optional6.isPresent()) {
-            return optional6.get();
-        }
-        final Optional<Character> optional7 = this.getAsCharacter();
-        if (optional7.isPresent()) {
-            return optional7.get();
-        }
-        final Optional<Byte> optional8 = this.getAsByte();
-        if (optional8.isPresent()) {
-            return optional8.get();
+        final String value = this.value();
+        if (value == null) {
+            return null;
         }
-        return this.getAsString().orElse(null);
+        return GeneralUtilities.parseScalar(value);
     }
 
     @NotNull
@@ -27,10 +27,9 @@
  */
 package io.github.portlek.configs.files.yaml.eoyaml;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Decorator over some YamlLines which makes sure that lines
@@ -77,27 +76,55 @@ final class Skip implements YamlLines {
         return this.yamlLines.toYamlNode(prev, guessIndentation);
     }
 
+    /**
+     * Returns an iterator over the lines which are not skipped.
+     * The lines are filtered while iterating, so an iteration which
+     * stops early doesn't go through the rest of the lines.
+     *
+     * @return Iterator over these yaml lines.
+     */
     @Override
     public Iterator<YamlLine> iterator() {
-        Iterator<YamlLine> iterator = this.yamlLines.iterator();
-        if (iterator.hasNext()) {
-            final List<YamlLine> notSkipped = new ArrayList<>();
-            while (iterator.hasNext()) {
-                boolean skip = false;
-                final YamlLine current = iterator.next();
-                for (int idx = 0; idx < this.conditions.length; idx++) {
-                    if (this.conditions[idx].isMet(current)) {
-                        skip = true;
-                        break;
+        final Iterator<YamlLine> iterator = this.yamlLines.iterator();
+        return new Iterator<YamlLine>() {
+            private YamlLine next;
+
+            @Override
+            public boolean hasNext() {
+                while (this.next == null && iterator.hasNext()) {
+                    final YamlLine current = iterator.next();
+                    if (!Skip.this.skipped(current)) {
+                        this.next = current;
                     }
                 }
-                if (!skip) {
-                    notSkipped.add(current);
+                return this.next != null;
+            }
+
+            @Override
+            public YamlLine next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
                 }
+                final YamlLine current = this.next;
+                this.next = null;
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Does the given line meet any of the conditions?
+     *
+     * @param line YamlLine.
+     * @return True or false.
+     */
+    private boolean skipped(final YamlLine line) {
+        for (int idx = 0; idx < this.conditions.length; idx++) {
+            if (this.conditions[idx].isMet(line)) {
+                return true;
             }
-            iterator = notSkipped.iterator();
         }
-        return iterator;
+        return false;
     }
 
     /**
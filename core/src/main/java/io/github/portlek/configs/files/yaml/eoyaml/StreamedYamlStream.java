@@ -0,0 +1,292 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * YAML Stream of documents, read one document at a time from a reader.
+ * Only the lines of the document being read are held in memory, so the
+ * memory used is proportional to the biggest document, not to the whole
+ * stream.<br><br>
+ * Documents are separated the same way as in {@link ReadYamlStream}. The
+ * stream is single-pass: the reader is read only once, as far as the
+ * documents are asked for, and a document handed out by
+ * {@link #documents()} is not kept by this stream. Every call of
+ * {@link #documents()} continues with the documents which were not handed
+ * out yet. Only {@link #values()} keeps documents: it reads the ones left
+ * into a list, which later calls of both methods return. The reader is
+ * closed when its end is reached or when this stream is closed, after which
+ * no more documents are read.
+ *
+ * @since 5.1.0
+ */
+final class StreamedYamlStream extends BaseYamlStream {
+
+    /**
+     * Reader of the YAML lines.
+     */
+    private final BufferedReader reader;
+
+    /**
+     * If set to true we will try to guess the correct indentation
+     * of misplaced lines.
+     */
+    private final boolean guessIndentation;
+
+    /**
+     * The document read but not handed out yet, or null.
+     */
+    private YamlNode next;
+
+    /**
+     * The documents left when {@link #values()} was called, or null if it
+     * was not called yet.
+     */
+    private List<YamlNode> values;
+
+    /**
+     * Whether the reader has no more documents, or was closed.
+     */
+    private boolean done;
+
+    /**
+     * Number of the next line.
+     */
+    private int number;
+
+    /**
+     * Start marker of the next document. It is null if the next document
+     * starts only at the next marker, e.g. after an end marker.
+     */
+    private YamlLine start = new YamlLine.NullYamlLine();
+
+    /**
+     * Ctor.
+     *
+     * @param reader Reader of the YAML lines.
+     * @param guessIndentation If set to true, we will try to guess
+     * the correct indentation of misplaced lines.
+     */
+    StreamedYamlStream(
+        final BufferedReader reader,
+        final boolean guessIndentation
+    ) {
+        this.reader = reader;
+        this.guessIndentation = guessIndentation;
+    }
+
+    @Override
+    public synchronized Collection<YamlNode> values() {
+        if (this.values == null) {
+            final List<YamlNode> left = new ArrayList<>();
+            while (this.fetch()) {
+                left.add(this.take());
+            }
+            this.values = Collections.unmodifiableList(left);
+        }
+        return this.values;
+    }
+
+    @Override
+    public synchronized Stream<YamlNode> documents() {
+        if (this.values != null) {
+            return this.values.stream();
+        }
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                new StreamedYamlStream.Documents(),
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        ).onClose(this::close);
+    }
+
+    @Override
+    public synchronized void close() {
+        this.done = true;
+        this.next = null;
+        try {
+            this.reader.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Read the next document, unless it was read already.
+     *
+     * @return Whether there is a next document.
+     */
+    private synchronized boolean fetch() {
+        if (this.next == null && !this.done) {
+            final YamlNode document;
+            try {
+                document = this.read();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            if (document == null) {
+                this.close();
+            } else {
+                this.next = document;
+            }
+        }
+        return this.next != null;
+    }
+
+    /**
+     * Hand out the next document, which this stream does not keep.
+     *
+     * @return The next document.
+     * @throws NoSuchElementException If there are no more documents.
+     */
+    private synchronized YamlNode take() {
+        if (!this.fetch()) {
+            throw new NoSuchElementException(
+                "There are no more YAML documents in this stream."
+            );
+        }
+        final YamlNode document = this.next;
+        this.next = null;
+        return document;
+    }
+
+    /**
+     * Read the next document which has more than comments.
+     *
+     * @return The read document or null if the reader has no more documents.
+     * @throws IOException If the reader cannot be read.
+     */
+    private YamlNode read() throws IOException {
+        YamlNode document = null;
+        while (document == null) {
+            if (this.start == null) {
+                this.start = this.nextMarker();
+                if (this.start == null) {
+                    break;
+                }
+            }
+            document = this.readDocument();
+        }
+        return document;
+    }
+
+    /**
+     * Read the lines of the document which starts at the current start
+     * marker, until the next start or end marker.
+     *
+     * @return The read document, or null if it has only comments.
+     * @throws IOException If the reader cannot be read.
+     */
+    private YamlNode readDocument() throws IOException {
+        final YamlLine marker = this.start;
+        this.start = null;
+        final List<YamlLine> lines = new ArrayList<>();
+        boolean empty = true;
+        String line;
+        while ((line = this.reader.readLine()) != null) {
+            final YamlLine current = new CachedYamlLine(
+                new RtYamlLine(line, this.number++)
+            );
+            final String trimmed = current.trimmed();
+            if ("---".equals(trimmed)) {
+                this.start = current;
+                break;
+            }
+            if ("...".equals(trimmed)) {
+                break;
+            }
+            if (!current.toString().trim().isEmpty()) {
+                empty = empty
+                    && (trimmed.startsWith("#") || trimmed.startsWith("%"));
+                lines.add(current);
+            }
+        }
+        final YamlNode document;
+        if (empty) {
+            document = null;
+        } else {
+            document = new AllYamlLines(lines).toYamlNode(
+                marker, this.guessIndentation
+            );
+        }
+        return document;
+    }
+
+    /**
+     * Skip the lines until the next start marker.
+     *
+     * @return The start marker or null if the reader has no more lines.
+     * @throws IOException If the reader cannot be read.
+     */
+    private YamlLine nextMarker() throws IOException {
+        YamlLine marker = null;
+        String line;
+        while (marker == null && (line = this.reader.readLine()) != null) {
+            final YamlLine current = new RtYamlLine(line, this.number++);
+            if ("---".equals(current.trimmed())) {
+                marker = current;
+            }
+        }
+        return marker;
+    }
+
+    /**
+     * Iterator reading the documents as they are asked for, and handing
+     * each of them out only once.
+     *
+     * @since 5.1.0
+     */
+    private final class Documents implements Iterator<YamlNode> {
+
+        @Override
+        public boolean hasNext() {
+            return StreamedYamlStream.this.fetch();
+        }
+
+        @Override
+        public YamlNode next() {
+            return StreamedYamlStream.this.take();
+        }
+
+    }
+
+}
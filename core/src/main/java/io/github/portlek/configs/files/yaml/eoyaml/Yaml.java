@@ -28,6 +28,7 @@
 package io.github.portlek.configs.files.yaml.eoyaml;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Yaml.
@@ -62,6 +63,30 @@ public final class Yaml {
         return new RtYamlSequenceBuilder();
     }
 
+    /**
+     * Create a mutable {@link YamlMappingBuilder}, which adds the pairs
+     * to itself instead of returning a new builder every time. Use it to
+     * build big mappings from a single thread. It builds a single mapping,
+     * and cannot be used after its build method was called.
+     *
+     * @return Mutable builder of YamlMapping.
+     */
+    public static YamlMappingBuilder createMutableYamlMappingBuilder() {
+        return new MutableYamlMappingBuilder();
+    }
+
+    /**
+     * Create a mutable {@link YamlSequenceBuilder}, which adds the nodes
+     * to itself instead of returning a new builder every time. Use it to
+     * build big sequences from a single thread. It builds a single sequence,
+     * and cannot be used after its build method was called.
+     *
+     * @return Mutable builder of YamlSequence.
+     */
+    public static YamlSequenceBuilder createMutableYamlSequenceBuilder() {
+        return new MutableYamlSequenceBuilder();
+    }
+
     /**
      * Create a {@link YamlScalarBuilder}.
      *
@@ -136,7 +161,7 @@ public final class Yaml {
         final boolean guessIndentation
     ) {
         return Yaml.createYamlInput(
-            new ByteArrayInputStream(input.getBytes()),
+            new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
             guessIndentation
         );
     }
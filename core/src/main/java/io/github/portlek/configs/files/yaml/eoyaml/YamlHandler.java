@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+/**
+ * A handler for parser events. Instances of this class can be given to a
+ * {@link YamlParser}. The parser will then call the methods of the given
+ * handler while reading the input, so the read YAML can be consumed without
+ * building any {@link YamlNode} first.
+ * <p>
+ * The default implementations of these methods do nothing. Subclasses may
+ * override only those methods they are interested in. They can use
+ * {@link #getLine()} to access the current line number of the parser.
+ * </p>
+ * <p>
+ * When a mapping is read, the parser first calls {@link #startMapping()},
+ * then {@link #startMappingValue(Object, String)} and
+ * {@link #endMappingValue(Object, String)} around the value of each key,
+ * and finally {@link #endMapping(Object)}. The same applies to sequences,
+ * {@link #startSequenceValue(Object)} and {@link #endSequenceValue(Object)}
+ * are called around each element. Scalar values, nulls, nested mappings and
+ * nested sequences are reported in between.
+ * </p>
+ *
+ * @param <S> The type of handlers used for sequences.
+ * @param <M> The type of handlers used for mappings.
+ * @since 5.1.0
+ */
+public abstract class YamlHandler<S, M> {
+
+    /**
+     * The parser that reports its events to this handler.
+     */
+    YamlParser parser;
+
+    /**
+     * Indicates the beginning of an empty value, such as a key without
+     * anything after or nested under it.
+     */
+    public void startNull() {
+    }
+
+    /**
+     * Indicates the end of an empty value.
+     */
+    public void endNull() {
+    }
+
+    /**
+     * Indicates the beginning of a scalar. This may be a plain, quoted,
+     * literal block or folded block scalar.
+     */
+    public void startScalar() {
+    }
+
+    /**
+     * Indicates the end of a scalar.
+     *
+     * @param value The un-escaped value of the scalar.
+     */
+    public void endScalar(final String value) {
+    }
+
+    /**
+     * Indicates the beginning of a sequence. This method will be called when
+     * reading the first element of a block sequence, or the opening square
+     * bracket of a flow sequence.
+     *
+     * @return A handler for this sequence, or <code>null</code> if not needed.
+     */
+    public S startSequence() {
+        return null;
+    }
+
+    /**
+     * Indicates the end of a sequence.
+     *
+     * @param sequence The sequence handler returned from
+     * {@link #startSequence()}, or <code>null</code> if not provided.
+     */
+    public void endSequence(final S sequence) {
+    }
+
+    /**
+     * Indicates the beginning of a sequence element, just before the call
+     * to the <code>start</code> method of the element.
+     *
+     * @param sequence The sequence handler returned from
+     * {@link #startSequence()}, or <code>null</code> if not provided.
+     */
+    public void startSequenceValue(final S sequence) {
+    }
+
+    /**
+     * Indicates the end of a sequence element, just after the call to the
+     * <code>end</code> method of the element.
+     *
+     * @param sequence The sequence handler returned from
+     * {@link #startSequence()}, or <code>null</code> if not provided.
+     */
+    public void endSequenceValue(final S sequence) {
+    }
+
+    /**
+     * Indicates the beginning of a mapping. This method will be called when
+     * reading the first key of a block mapping, or the opening curly bracket
+     * of a flow mapping.
+     *
+     * @return A handler for this mapping, or <code>null</code> if not needed.
+     */
+    public M startMapping() {
+        return null;
+    }
+
+    /**
+     * Indicates the end of a mapping.
+     *
+     * @param mapping The mapping handler returned from
+     * {@link #startMapping()}, or <code>null</code> if not provided.
+     */
+    public void endMapping(final M mapping) {
+    }
+
+    /**
+     * Indicates the beginning of the value of a key, just before the call
+     * to the <code>start</code> method of the value.
+     *
+     * @param mapping The mapping handler returned from
+     * {@link #startMapping()}, or <code>null</code> if not provided.
+     * @param key The un-escaped key.
+     */
+    public void startMappingValue(final M mapping, final String key) {
+    }
+
+    /**
+     * Indicates the end of the value of a key, just after the call to the
+     * <code>end</code> method of the value.
+     *
+     * @param mapping The mapping handler returned from
+     * {@link #startMapping()}, or <code>null</code> if not provided.
+     * @param key The un-escaped key.
+     */
+    public void endMappingValue(final M mapping, final String key) {
+    }
+
+    /**
+     * The number of the line the parser is currently at.
+     *
+     * @return Line number, counting from 1.
+     */
+    protected int getLine() {
+        return this.parser.getLine();
+    }
+
+}
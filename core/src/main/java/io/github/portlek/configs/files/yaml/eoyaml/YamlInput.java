@@ -55,7 +55,10 @@ public interface YamlInput {
     YamlSequence readYamlSequence() throws IOException;
 
     /**
-     * Read the given input as a Yaml stream.
+     * Read the given input as a Yaml stream. The documents are read one
+     * by one, as the stream is iterated, and each of them is handed out
+     * only once. The input is closed when the stream was read to its end
+     * or closed.
      *
      * @return Read YamlStream.
      * @throws IOException if the input cannot be read for some reason
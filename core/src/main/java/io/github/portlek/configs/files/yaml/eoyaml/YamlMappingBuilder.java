@@ -28,7 +28,9 @@
 package io.github.portlek.configs.files.yaml.eoyaml;
 
 /**
- * Builder of YamlMapping. Implementations should be immutable and thread-safe.
+ * Builder of YamlMapping. Implementations should be immutable and thread-safe,
+ * except for the mutable one given by
+ * {@link Yaml#createMutableYamlMappingBuilder()}.
  *
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id: 874262715a92df86ed142c9e7f098a2c4e102f99 $
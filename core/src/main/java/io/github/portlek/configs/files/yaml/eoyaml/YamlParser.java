@@ -0,0 +1,952 @@
+/**
+ * Copyright (c) 2016-2020, Mihai Emil Andronache
+ * All rights reserved.
+ * <p>
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from
+ * this software without specific prior written permission.
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+ * OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE.
+ */
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+import io.github.portlek.configs.files.yaml.eoyaml.exceptions.YamlIndentationException;
+import io.github.portlek.configs.files.yaml.eoyaml.exceptions.YamlReadingException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A streaming parser for YAML documents. The parser reads the input line
+ * by line and reports all events to a given {@link YamlHandler}, without
+ * building any {@link YamlNode}.<br><br>
+ * It understands block mappings and sequences (including sequences at the
+ * same indentation as their key), plain and quoted scalars, literal and
+ * folded block scalars and single-line flow collections. Comments, document
+ * markers, directives and tag lines are ignored. Quoted scalars are only
+ * stripped of their quotes, escape sequences are kept as they are. Trailing
+ * line breaks of block scalars are kept only with the "keep" (+) chomping
+ * indicator.
+ * CyclomaticComplexity (600 lines)
+ * ExecutableStatementCount (600 lines)
+ *
+ * @since 5.1.0
+ */
+public class YamlParser {
+
+    /**
+     * The handler which receives the events.
+     */
+    private final YamlHandler<Object, Object> handler;
+
+    /**
+     * The mappings and sequences which are not finished yet.
+     */
+    private final Deque<YamlParser.Node> nodes = new ArrayDeque<>();
+
+    /**
+     * Node whose key or element is waiting for its value.
+     */
+    private YamlParser.Node pending;
+
+    /**
+     * Indentation of the line with the pending key or element.
+     */
+    private int pendingIndentation;
+
+    /**
+     * The pending key, null if an element of a sequence is pending.
+     */
+    private String pendingKey;
+
+    /**
+     * Block scalar which is being read.
+     */
+    private YamlParser.Block block;
+
+    /**
+     * Current line number.
+     */
+    private int line;
+
+    /**
+     * Creates a new YamlParser with the given handler. The parser will
+     * report all parser events to this handler.
+     *
+     * @param handler The handler to process parser events.
+     */
+    @SuppressWarnings("unchecked")
+    public YamlParser(final YamlHandler<?, ?> handler) {
+        if (handler == null) {
+            throw new NullPointerException("handler is null");
+        }
+        this.handler = (YamlHandler<Object, Object>) handler;
+        handler.parser = this;
+    }
+
+    /**
+     * Parses the given input string.
+     *
+     * @param string The input string.
+     * @throws YamlReadingException If the input is not valid YAML.
+     */
+    public void parse(final String string) {
+        if (string == null) {
+            throw new NullPointerException("string is null");
+        }
+        try {
+            this.parse(new StringReader(string));
+        } catch (final IOException exception) {
+            // StringReader does not throw IOException
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Reads the entire input from the given reader, line by line, and
+     * parses it.
+     *
+     * @param reader The reader to read the input from.
+     * @throws IOException If an I/O error occurs in the reader.
+     * @throws YamlReadingException If the input is not valid YAML.
+     */
+    public void parse(final Reader reader) throws IOException {
+        if (reader == null) {
+            throw new NullPointerException("reader is null");
+        }
+        final BufferedReader input;
+        if (reader instanceof BufferedReader) {
+            input = (BufferedReader) reader;
+        } else {
+            input = new BufferedReader(reader);
+        }
+        this.nodes.clear();
+        this.pending = null;
+        this.block = null;
+        this.line = 0;
+        String raw;
+        while ((raw = input.readLine()) != null) {
+            this.line++;
+            if (this.line == 1 && !raw.isEmpty() && raw.charAt(0) == '\uFEFF') {
+                raw = raw.substring(1);
+            }
+            this.readLine(raw);
+        }
+        this.finish();
+    }
+
+    /**
+     * The number of the line the parser is currently at.
+     *
+     * @return Line number, counting from 1.
+     */
+    int getLine() {
+        return this.line;
+    }
+
+    /**
+     * Is the given text an element of a block sequence?
+     *
+     * @param text Trimmed text.
+     * @return True or false.
+     */
+    private static boolean isElement(final String text) {
+        return "-".equals(text) || text.startsWith("- ");
+    }
+
+    /**
+     * Is the given text the header of a literal or folded block scalar?
+     * E.g. "|", "&gt;-" or "|2+".
+     *
+     * @param text Trimmed text.
+     * @return True or false.
+     */
+    private static boolean isBlock(final String text) {
+        final char first = text.charAt(0);
+        if (first != '|' && first != '>' || text.length() > 3) {
+            return false;
+        }
+        for (int idx = 1; idx < text.length(); idx++) {
+            final char indicator = text.charAt(idx);
+            if (indicator != '-' && indicator != '+' && !Character.isDigit(indicator)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of spaces at the beginning of the given line.
+     *
+     * @param raw Line.
+     * @return Indentation.
+     */
+    private static int indentation(final String raw) {
+        int index = 0;
+        while (index < raw.length() && raw.charAt(index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * The text of the given line, without indentation, comment and
+     * trailing spaces.
+     *
+     * @param raw Line.
+     * @param indentation Indentation of the line.
+     * @return Trimmed text, empty if the line is a comment.
+     */
+    private static String content(final String raw, final int indentation) {
+        int end = raw.length();
+        char quote = 0;
+        for (int idx = indentation; idx < raw.length(); idx++) {
+            final char current = raw.charAt(idx);
+            if (quote != 0) {
+                if (quote == '"' && current == '\\') {
+                    idx++;
+                } else if (current == quote) {
+                    quote = 0;
+                }
+            } else if (current == '#'
+                && (idx == indentation || Character.isWhitespace(raw.charAt(idx - 1)))) {
+                end = idx;
+                break;
+            } else if ((current == '"' || current == '\'')
+                && (idx == indentation || " \t:-[{,".indexOf(raw.charAt(idx - 1)) >= 0)) {
+                quote = current;
+            }
+        }
+        return raw.substring(indentation, end).trim();
+    }
+
+    /**
+     * Index of the colon which separates the key from the value in the
+     * given text.
+     *
+     * @param text Trimmed text.
+     * @return Index of the colon or -1 if this text is not a key.
+     */
+    private static int separator(final String text) {
+        final char first = text.charAt(0);
+        if (first == '"' || first == '\'') {
+            final int close = YamlParser.closing(text, 1);
+            if (close > 0 && YamlParser.isSeparator(text, close + 1)) {
+                return close + 1;
+            }
+            return -1;
+        }
+        if (first == '[' || first == '{') {
+            return -1;
+        }
+        for (int idx = 0; idx < text.length(); idx++) {
+            if (YamlParser.isSeparator(text, idx)) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Is there a key separator at the given index?
+     *
+     * @param text Trimmed text.
+     * @param index Index.
+     * @return True or false.
+     */
+    private static boolean isSeparator(final String text, final int index) {
+        return index < text.length()
+            && text.charAt(index) == ':'
+            && (index + 1 == text.length() || text.charAt(index + 1) == ' ');
+    }
+
+    /**
+     * Index of the quote which closes the quoted text starting right
+     * before the given index. Inside double quotes, a character after a
+     * backslash is escaped and never closes the text.
+     *
+     * @param text Text.
+     * @param from Index after the opening quote.
+     * @return Index of the closing quote or -1 if it is not closed.
+     */
+    private static int closing(final String text, final int from) {
+        final char quote = text.charAt(from - 1);
+        for (int idx = from; idx < text.length(); idx++) {
+            final char current = text.charAt(idx);
+            if (quote == '"' && current == '\\') {
+                idx++;
+            } else if (current == quote) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Remove the quotes or apostrophes surrounding the given value. The
+     * escaped quotes and backslashes of a double quoted value are read
+     * back as they were written, other backslashes are kept.
+     *
+     * @param value Trimmed value.
+     * @return Value without quotes.
+     */
+    private static String unquote(final String value) {
+        if (value.length() >= 2) {
+            final char first = value.charAt(0);
+            if (first == '\''
+                && value.charAt(value.length() - 1) == first) {
+                return value.substring(1, value.length() - 1);
+            }
+            if (first == '"'
+                && YamlParser.closing(value, 1) == value.length() - 1) {
+                return YamlParser.unescape(value, 1, value.length() - 1);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * The text between the given indexes of a double quoted value, with
+     * its escaped quotes and backslashes read back.
+     *
+     * @param value Double quoted value.
+     * @param from First index of the text.
+     * @param to Index of the closing quote.
+     * @return Unescaped text.
+     */
+    private static String unescape(final String value, final int from,
+        final int to) {
+        if (value.indexOf('\\', from) < 0) {
+            return value.substring(from, to);
+        }
+        final StringBuilder builder = new StringBuilder(to - from);
+        for (int idx = from; idx < to; idx++) {
+            final char current = value.charAt(idx);
+            if (current == '\\' && idx + 1 < to) {
+                final char next = value.charAt(idx + 1);
+                if (next == '"' || next == '\\') {
+                    builder.append(next);
+                    idx++;
+                    continue;
+                }
+            }
+            builder.append(current);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Read a line of the input.
+     *
+     * @param raw Line.
+     */
+    private void readLine(final String raw) {
+        final int indentation = YamlParser.indentation(raw);
+        if (this.block != null) {
+            if (raw.trim().isEmpty()) {
+                this.block.lines.add("");
+                return;
+            }
+            if (indentation > this.block.indentation) {
+                this.block.lines.add(raw);
+                return;
+            }
+            this.endBlock();
+        }
+        final String text = YamlParser.content(raw, indentation);
+        if (text.isEmpty()
+            || indentation == 0 && ("---".equals(text) || text.startsWith("--- ")
+            || "...".equals(text) || text.charAt(0) == '%')
+            || text.startsWith("!!")) {
+            return;
+        }
+        this.node(indentation, text);
+    }
+
+    /**
+     * Read a mapping entry, a sequence element or a scalar found at the given
+     * column.
+     *
+     * @param column Column where the text starts.
+     * @param text Trimmed text.
+     */
+    private void node(final int column, final String text) {
+        final boolean element = YamlParser.isElement(text);
+        final int separator;
+        if (element) {
+            separator = -1;
+        } else {
+            separator = YamlParser.separator(text);
+        }
+        if (this.pending != null) {
+            if (column > this.pendingIndentation
+                || column == this.pendingIndentation && element
+                && this.pending.mapping) {
+                if (element) {
+                    this.open(false, column);
+                } else if (separator > 0) {
+                    this.open(true, column);
+                } else {
+                    this.value(text);
+                    return;
+                }
+            } else {
+                this.empty();
+            }
+        }
+        while (!this.nodes.isEmpty()) {
+            final YamlParser.Node top = this.nodes.peek();
+            if (top.indentation > column
+                || top.indentation == column && !top.mapping && !element) {
+                this.close();
+            } else {
+                break;
+            }
+        }
+        if (this.nodes.isEmpty()) {
+            if (element) {
+                this.open(false, column);
+            } else if (separator > 0) {
+                this.open(true, column);
+            } else {
+                this.handler.startScalar();
+                this.handler.endScalar(YamlParser.unquote(text));
+                return;
+            }
+        }
+        final YamlParser.Node top = this.nodes.peek();
+        if (top.indentation != column) {
+            throw new YamlIndentationException(
+                "Indentation of line " + this.line + " is not ok. It should be "
+                    + top.indentation + " spaces, but it is " + column + "."
+            );
+        }
+        if (element) {
+            if (top.mapping) {
+                throw new YamlReadingException(
+                    "Could not parse YAML at line " + this.line
+                        + ". A sequence element was found inside a mapping."
+                );
+            }
+            this.handler.startSequenceValue(top.node);
+            this.pending = top;
+            this.pendingIndentation = column;
+            this.pendingKey = null;
+            final String rest = text.substring(1).trim();
+            if (!rest.isEmpty()) {
+                this.node(column + text.indexOf(rest, 1), rest);
+            }
+        } else if (separator > 0) {
+            if (!top.mapping) {
+                throw new YamlReadingException(
+                    "Could not parse YAML at line " + this.line
+                        + ". A mapping key was found inside a sequence."
+                );
+            }
+            final String key = YamlParser.unquote(text.substring(0, separator).trim());
+            this.handler.startMappingValue(top.node, key);
+            this.pending = top;
+            this.pendingIndentation = column;
+            this.pendingKey = key;
+            final String rest = text.substring(separator + 1).trim();
+            if (!rest.isEmpty()) {
+                this.value(rest);
+            }
+        } else {
+            throw new YamlReadingException(
+                "Could not parse YAML at line " + this.line
+                    + ". It should be a sequence element (line should start with '- '),"
+                    + " a mapping entry (line should contain ': ') or the value of"
+                    + " the key or element above it."
+            );
+        }
+    }
+
+    /**
+     * Open a new mapping or sequence as the value of the pending key or
+     * element.
+     *
+     * @param mapping True for a mapping, false for a sequence.
+     * @param column Indentation of the new node.
+     */
+    private void open(final boolean mapping, final int column) {
+        final Object node;
+        if (mapping) {
+            node = this.handler.startMapping();
+        } else {
+            node = this.handler.startSequence();
+        }
+        this.nodes.push(new YamlParser.Node(mapping, column, node, this.pendingKey));
+        this.pending = null;
+    }
+
+    /**
+     * Close the last opened mapping or sequence.
+     */
+    private void close() {
+        final YamlParser.Node node = this.nodes.pop();
+        if (node.mapping) {
+            this.handler.endMapping(node.node);
+        } else {
+            this.handler.endSequence(node.node);
+        }
+        if (!this.nodes.isEmpty()) {
+            this.endValue(this.nodes.peek(), node.key);
+        }
+    }
+
+    /**
+     * Report the end of a value to its owner.
+     *
+     * @param owner Mapping or sequence owning the value.
+     * @param key Key of the value, null if the owner is a sequence.
+     */
+    private void endValue(final YamlParser.Node owner, final String key) {
+        if (owner.mapping) {
+            this.handler.endMappingValue(owner.node, key);
+        } else {
+            this.handler.endSequenceValue(owner.node);
+        }
+    }
+
+    /**
+     * The pending key or element has no value.
+     */
+    private void empty() {
+        final YamlParser.Node owner = this.pending;
+        this.pending = null;
+        this.handler.startNull();
+        this.handler.endNull();
+        this.endValue(owner, this.pendingKey);
+    }
+
+    /**
+     * Read the value of the pending key or element, found on the same line.
+     *
+     * @param text Trimmed value.
+     */
+    private void value(final String text) {
+        final YamlParser.Node owner = this.pending;
+        final String key = this.pendingKey;
+        this.pending = null;
+        final char first = text.charAt(0);
+        if (YamlParser.isBlock(text)) {
+            char chomping = 0;
+            if (text.indexOf('-') > 0) {
+                chomping = '-';
+            } else if (text.indexOf('+') > 0) {
+                chomping = '+';
+            }
+            this.block = new YamlParser.Block(
+                owner, key, this.pendingIndentation, first == '>', chomping
+            );
+            return;
+        }
+        if (first == '[' || first == '{') {
+            final Object flow = new YamlParser.Flow(text).read();
+            if (flow != null) {
+                this.flow(flow);
+                this.endValue(owner, key);
+                return;
+            }
+        }
+        this.handler.startScalar();
+        this.handler.endScalar(YamlParser.unquote(text));
+        this.endValue(owner, key);
+    }
+
+    /**
+     * Report the events of a read flow collection.
+     *
+     * @param flow List, Map or String.
+     */
+    private void flow(final Object flow) {
+        if (flow instanceof List<?>) {
+            final Object sequence = this.handler.startSequence();
+            for (final Object element : (List<?>) flow) {
+                this.handler.startSequenceValue(sequence);
+                this.flow(element);
+                this.handler.endSequenceValue(sequence);
+            }
+            this.handler.endSequence(sequence);
+        } else if (flow instanceof Map<?, ?>) {
+            final Object mapping = this.handler.startMapping();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) flow).entrySet()) {
+                final String key = (String) entry.getKey();
+                this.handler.startMappingValue(mapping, key);
+                this.flow(entry.getValue());
+                this.handler.endMappingValue(mapping, key);
+            }
+            this.handler.endMapping(mapping);
+        } else {
+            this.handler.startScalar();
+            this.handler.endScalar((String) flow);
+        }
+    }
+
+    /**
+     * Report the block scalar which was read.
+     */
+    private void endBlock() {
+        final YamlParser.Block read = this.block;
+        this.block = null;
+        this.handler.startScalar();
+        this.handler.endScalar(read.value());
+        this.endValue(read.owner, read.key);
+    }
+
+    /**
+     * End of the input, finish everything which is still open.
+     */
+    private void finish() {
+        if (this.block != null) {
+            this.endBlock();
+        }
+        if (this.pending != null) {
+            this.empty();
+        }
+        while (!this.nodes.isEmpty()) {
+            this.close();
+        }
+    }
+
+    /**
+     * A mapping or sequence which is being read.
+     */
+    private static final class Node {
+
+        /**
+         * Is it a mapping or a sequence?
+         */
+        private final boolean mapping;
+
+        /**
+         * Indentation of its keys or elements.
+         */
+        private final int indentation;
+
+        /**
+         * Handler object returned for it.
+         */
+        private final Object node;
+
+        /**
+         * Key of this node in its parent, null if the parent is a sequence.
+         */
+        private final String key;
+
+        /**
+         * Ctor.
+         *
+         * @param mapping Is it a mapping or a sequence?
+         * @param indentation Indentation of its keys or elements.
+         * @param node Handler object returned for it.
+         * @param key Key of this node in its parent.
+         */
+        private Node(final boolean mapping, final int indentation,
+                     final Object node, final String key) {
+            this.mapping = mapping;
+            this.indentation = indentation;
+            this.node = node;
+            this.key = key;
+        }
+
+    }
+
+    /**
+     * A literal or folded block scalar which is being read.
+     */
+    private static final class Block {
+
+        /**
+         * Lines of the scalar, empty lines included.
+         */
+        private final List<String> lines = new ArrayList<>();
+
+        /**
+         * Mapping or sequence owning this scalar.
+         */
+        private final YamlParser.Node owner;
+
+        /**
+         * Key of this scalar, null if the owner is a sequence.
+         */
+        private final String key;
+
+        /**
+         * Indentation of the line where this scalar starts.
+         */
+        private final int indentation;
+
+        /**
+         * Is it folded or literal?
+         */
+        private final boolean folded;
+
+        /**
+         * Chomping indicator, 0 if not given.
+         */
+        private final char chomping;
+
+        /**
+         * Ctor.
+         *
+         * @param owner Mapping or sequence owning this scalar.
+         * @param key Key of this scalar.
+         * @param indentation Indentation of the line where it starts.
+         * @param folded Is it folded or literal?
+         * @param chomping Chomping indicator.
+         */
+        private Block(final YamlParser.Node owner, final String key,
+                      final int indentation, final boolean folded,
+                      final char chomping) {
+            this.owner = owner;
+            this.key = key;
+            this.indentation = indentation;
+            this.folded = folded;
+            this.chomping = chomping;
+        }
+
+        /**
+         * The value of this scalar.
+         *
+         * @return String.
+         */
+        private String value() {
+            int last = this.lines.size();
+            while (last > 0 && this.lines.get(last - 1).isEmpty()) {
+                last--;
+            }
+            int base = 0;
+            for (int idx = 0; idx < last; idx++) {
+                if (!this.lines.get(idx).isEmpty()) {
+                    base = YamlParser.indentation(this.lines.get(idx));
+                    break;
+                }
+            }
+            final StringBuilder builder = new StringBuilder();
+            boolean indented = false;
+            for (int idx = 0; idx < last; idx++) {
+                final String current = this.lines.get(idx);
+                final String text;
+                if (current.length() > base) {
+                    text = current.substring(base);
+                } else {
+                    text = current.trim();
+                }
+                if (!this.folded) {
+                    if (idx > 0) {
+                        builder.append('\n');
+                    }
+                    builder.append(text);
+                } else if (text.isEmpty()) {
+                    builder.append('\n');
+                } else {
+                    final boolean more = text.charAt(0) == ' ';
+                    if (builder.length() > 0
+                        && builder.charAt(builder.length() - 1) != '\n') {
+                        if (more || indented) {
+                            builder.append('\n');
+                        } else {
+                            builder.append(' ');
+                        }
+                    }
+                    builder.append(text);
+                    indented = more;
+                }
+            }
+            if (this.chomping == '+') {
+                for (int idx = last; idx <= this.lines.size(); idx++) {
+                    builder.append('\n');
+                }
+            }
+            return builder.toString();
+        }
+
+    }
+
+    /**
+     * A single-line flow collection.
+     */
+    private static final class Flow {
+
+        /**
+         * Text of the collection.
+         */
+        private final String text;
+
+        /**
+         * Current position.
+         */
+        private int position;
+
+        /**
+         * Ctor.
+         *
+         * @param text Text of the collection.
+         */
+        private Flow(final String text) {
+            this.text = text;
+        }
+
+        /**
+         * Read the collection.
+         *
+         * @return List or Map, null if the text is not a valid flow
+         * collection.
+         */
+        private Object read() {
+            final Object read = this.collection();
+            this.skip();
+            if (read == null || this.position != this.text.length()) {
+                return null;
+            }
+            return read;
+        }
+
+        /**
+         * Read a flow sequence or mapping.
+         *
+         * @return List, Map or null if not valid.
+         */
+        private Object collection() {
+            final char open = this.text.charAt(this.position++);
+            final char close;
+            final List<Object> sequence;
+            final Map<String, Object> mapping;
+            if (open == '[') {
+                close = ']';
+                sequence = new ArrayList<>();
+                mapping = null;
+            } else {
+                close = '}';
+                sequence = null;
+                mapping = new LinkedHashMap<>();
+            }
+            this.skip();
+            if (this.at(close)) {
+                this.position++;
+                return open == '[' ? sequence : mapping;
+            }
+            while (this.position < this.text.length()) {
+                if (sequence != null) {
+                    final Object element = this.element(close, false);
+                    if (element == null) {
+                        return null;
+                    }
+                    sequence.add(element);
+                } else {
+                    final Object key = this.element(close, true);
+                    this.skip();
+                    if (!(key instanceof String) || !this.at(':')) {
+                        return null;
+                    }
+                    this.position++;
+                    final Object value = this.element(close, false);
+                    if (value == null) {
+                        return null;
+                    }
+                    mapping.put((String) key, value);
+                }
+                this.skip();
+                if (this.at(',')) {
+                    this.position++;
+                } else if (this.at(close)) {
+                    this.position++;
+                    return open == '[' ? sequence : mapping;
+                } else {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Read an element, a key or a value.
+         *
+         * @param close Closing bracket of the collection.
+         * @param key Is it a key of a flow mapping?
+         * @return String, List, Map or null if not valid.
+         */
+        private Object element(final char close, final boolean key) {
+            this.skip();
+            if (this.position >= this.text.length()) {
+                return null;
+            }
+            final char first = this.text.charAt(this.position);
+            if (first == '[' || first == '{') {
+                return this.collection();
+            }
+            if (first == '"' || first == '\'') {
+                final int end = YamlParser.closing(this.text, this.position + 1);
+                if (end < 0) {
+                    return null;
+                }
+                final String quoted;
+                if (first == '"') {
+                    quoted = YamlParser.unescape(this.text, this.position + 1, end);
+                } else {
+                    quoted = this.text.substring(this.position + 1, end);
+                }
+                this.position = end + 1;
+                return quoted;
+            }
+            final int start = this.position;
+            while (this.position < this.text.length()) {
+                final char current = this.text.charAt(this.position);
+                if (current == ',' || current == close
+                    || key && current == ':') {
+                    break;
+                }
+                this.position++;
+            }
+            return this.text.substring(start, this.position).trim();
+        }
+
+        /**
+         * Is the current character the given one?
+         *
+         * @param character Expected character.
+         * @return True or false.
+         */
+        private boolean at(final char character) {
+            return this.position < this.text.length()
+                && this.text.charAt(this.position) == character;
+        }
+
+        /**
+         * Skip the spaces.
+         */
+        private void skip() {
+            while (this.at(' ')) {
+                this.position++;
+            }
+        }
+
+    }
+
+}
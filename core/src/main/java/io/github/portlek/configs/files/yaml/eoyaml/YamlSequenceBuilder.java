@@ -28,7 +28,9 @@
 package io.github.portlek.configs.files.yaml.eoyaml;
 
 /**
- * Builder of YamlSequence. Implementations should be immutable and thread-safe.
+ * Builder of YamlSequence. Implementations should be immutable and thread-safe,
+ * except for the mutable one given by
+ * {@link Yaml#createMutableYamlSequenceBuilder()}.
  *
  * @author Salavat.Yalalov (s.yalalov@gmail.com)
  * @version $Id: 8f41be132072bc442d4c890d977e3da700cb0fd7 $
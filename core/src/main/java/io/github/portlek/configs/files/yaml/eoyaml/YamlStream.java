@@ -34,7 +34,8 @@ import java.util.stream.*;
 /**
  * A YAML Stream of documents. Documents are separated by 3 dashes (---).<br>
  * This interface also offers integrations with Java 8's Stream API.<br>
- * All the methods have a default implementations based on the YamlNode
+ * All the methods have a default implementations based on the
+ * {@link #documents()} Stream, which by default is the Stream of the YamlNode
  * values Collection.
  *
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -55,6 +56,19 @@ public interface YamlStream extends YamlNode, Stream<YamlNode> {
      */
     Collection<YamlNode> values();
 
+    /**
+     * The documents of this stream, as a Java Stream. All the Stream methods
+     * of this interface work on it. Implementations which read their
+     * documents one by one should override it, so the documents are not
+     * all held in memory.
+     *
+     * @return Stream of {@link YamlNode}
+     * @since 5.1.0
+     */
+    default Stream<YamlNode> documents() {
+        return this.values().stream();
+    }
+
     @Override
     default Comment comment() {
         return new BuiltComment(this, "");
@@ -62,203 +76,203 @@ public interface YamlStream extends YamlNode, Stream<YamlNode> {
 
     @Override
     default Iterator<YamlNode> iterator() {
-        return this.values().stream().iterator();
+        return this.documents().iterator();
     }
 
     @Override
     default Spliterator<YamlNode> spliterator() {
-        return this.values().stream().spliterator();
+        return this.documents().spliterator();
     }
 
     @Override
     default boolean isParallel() {
-        return this.values().stream().isParallel();
+        return this.documents().isParallel();
     }
 
     @Override
     default Stream<YamlNode> sequential() {
-        return this.values().stream().sequential();
+        return this.documents().sequential();
     }
 
     @Override
     default Stream<YamlNode> parallel() {
-        return this.values().stream().parallel();
+        return this.documents().parallel();
     }
 
     @Override
     default Stream<YamlNode> unordered() {
-        return this.values().stream().unordered();
+        return this.documents().unordered();
     }
 
     @Override
     default Stream<YamlNode> onClose(final Runnable closeHandler) {
-        return this.values().stream().onClose(closeHandler);
+        return this.documents().onClose(closeHandler);
     }
 
     @Override
     default void close() {
-        this.values().stream().close();
+        this.documents().close();
     }
 
     @Override
     default Stream<YamlNode> filter(final Predicate<? super YamlNode> predicate) {
-        return this.values().stream().filter(predicate);
+        return this.documents().filter(predicate);
     }
 
     @Override
     default <R> Stream<R> map(final Function<? super YamlNode, ? extends R> mapper) {
-        return this.values().stream().map(mapper);
+        return this.documents().map(mapper);
     }
 
     @Override
     default IntStream mapToInt(final ToIntFunction<? super YamlNode> mapper) {
-        return this.values().stream().mapToInt(mapper);
+        return this.documents().mapToInt(mapper);
     }
 
     @Override
     default LongStream mapToLong(final ToLongFunction<? super YamlNode> mapper) {
-        return this.values().stream().mapToLong(mapper);
+        return this.documents().mapToLong(mapper);
     }
 
     @Override
     default DoubleStream mapToDouble(final ToDoubleFunction<? super YamlNode> mapper) {
-        return this.values().stream().mapToDouble(mapper);
+        return this.documents().mapToDouble(mapper);
     }
 
     @Override
     default <R> Stream<R> flatMap(final Function<? super YamlNode, ? extends Stream<? extends R>> mapper) {
-        return this.values().stream().flatMap(mapper);
+        return this.documents().flatMap(mapper);
     }
 
     @Override
     default IntStream flatMapToInt(final Function<? super YamlNode, ? extends IntStream> mapper) {
-        return this.values().stream().flatMapToInt(mapper);
+        return this.documents().flatMapToInt(mapper);
     }
 
     @Override
     default LongStream flatMapToLong(final Function<? super YamlNode, ? extends LongStream> mapper) {
-        return this.values().stream().flatMapToLong(mapper);
+        return this.documents().flatMapToLong(mapper);
     }
 
     @Override
     default DoubleStream flatMapToDouble(final Function<? super YamlNode, ? extends DoubleStream> mapper) {
-        return this.values().stream().flatMapToDouble(mapper);
+        return this.documents().flatMapToDouble(mapper);
     }
 
     @Override
     default Stream<YamlNode> distinct() {
-        return this.values().stream().distinct();
+        return this.documents().distinct();
     }
 
     @Override
     default Stream<YamlNode> sorted() {
-        return this.values().stream().sorted();
+        return this.documents().sorted();
     }
 
     @Override
     default Stream<YamlNode> sorted(final Comparator<? super YamlNode> comparator) {
-        return this.values().stream().sorted(comparator);
+        return this.documents().sorted(comparator);
     }
 
     @Override
     default Stream<YamlNode> peek(final Consumer<? super YamlNode> action) {
-        return this.values().stream().peek(action);
+        return this.documents().peek(action);
     }
 
     @Override
     default Stream<YamlNode> limit(final long maxSize) {
-        return this.values().stream().limit(maxSize);
+        return this.documents().limit(maxSize);
     }
 
     @Override
     default Stream<YamlNode> skip(final long n) {
-        return this.values().stream().skip(n);
+        return this.documents().skip(n);
     }
 
     @Override
     default void forEach(final Consumer<? super YamlNode> action) {
-        this.values().stream().forEach(action);
+        this.documents().forEach(action);
     }
 
     @Override
     default void forEachOrdered(final Consumer<? super YamlNode> action) {
-        this.values().stream().forEachOrdered(action);
+        this.documents().forEachOrdered(action);
     }
 
     @Override
     default Object[] toArray() {
-        return this.values().stream().toArray();
+        return this.documents().toArray();
     }
 
     @Override
     default <A> A[] toArray(final IntFunction<A[]> generator) {
-        return this.values().stream().toArray(generator);
+        return this.documents().toArray(generator);
     }
 
     @Override
     default YamlNode reduce(final YamlNode identity, final BinaryOperator<YamlNode> accumulator) {
-        return this.values().stream().reduce(identity, accumulator);
+        return this.documents().reduce(identity, accumulator);
     }
 
     @Override
     default Optional<YamlNode> reduce(final BinaryOperator<YamlNode> accumulator) {
-        return this.values().stream().reduce(accumulator);
+        return this.documents().reduce(accumulator);
     }
 
     @Override
     default <U> U reduce(final U identity, final BiFunction<U, ? super YamlNode, U> accumulator, final BinaryOperator<U> combiner) {
-        return this.values().stream().reduce(identity, accumulator, combiner);
+        return this.documents().reduce(identity, accumulator, combiner);
     }
 
     @Override
     default <R> R collect(final Supplier<R> supplier, final BiConsumer<R, ? super YamlNode> accumulator,
                           final BiConsumer<R, R> combiner) {
-        return this.values().stream().collect(supplier, accumulator, combiner);
+        return this.documents().collect(supplier, accumulator, combiner);
     }
 
     @Override
     default <R, A> R collect(final Collector<? super YamlNode, A, R> collector) {
-        return this.values().stream().collect(collector);
+        return this.documents().collect(collector);
     }
 
     @Override
     default Optional<YamlNode> min(final Comparator<? super YamlNode> comparator) {
-        return this.values().stream().min(comparator);
+        return this.documents().min(comparator);
     }
 
     @Override
     default Optional<YamlNode> max(final Comparator<? super YamlNode> comparator) {
-        return this.values().stream().max(comparator);
+        return this.documents().max(comparator);
     }
 
     @Override
     default long count() {
-        return this.values().stream().count();
+        return this.documents().count();
     }
 
     @Override
     default boolean anyMatch(final Predicate<? super YamlNode> predicate) {
-        return this.values().stream().anyMatch(predicate);
+        return this.documents().anyMatch(predicate);
     }
 
     @Override
     default boolean allMatch(final Predicate<? super YamlNode> predicate) {
-        return this.values().stream().allMatch(predicate);
+        return this.documents().allMatch(predicate);
     }
 
     @Override
     default boolean noneMatch(final Predicate<? super YamlNode> predicate) {
-        return this.values().stream().noneMatch(predicate);
+        return this.documents().noneMatch(predicate);
     }
 
     @Override
     default Optional<YamlNode> findFirst() {
-        return this.values().stream().findFirst();
+        return this.documents().findFirst();
     }
 
     @Override
     default Optional<YamlNode> findAny() {
-        return this.values().stream().findAny();
+        return this.documents().findAny();
     }
 
 }
@@ -26,7 +26,9 @@
 package io.github.portlek.configs.processors;
 
 import io.github.portlek.configs.annotations.Config;
+import io.github.portlek.configs.configuration.FileConfiguration;
 import io.github.portlek.configs.files.FileType;
+import io.github.portlek.configs.files.binary.SnapshotCache;
 import io.github.portlek.configs.structure.managed.FlManaged;
 import io.github.portlek.configs.util.GeneralUtilities;
 import java.io.File;
@@ -44,27 +46,42 @@ public final class ConfigProceed {
 
     public void load() {
         final FileType type = this.config.type();
-        final String name;
-        if (this.config.value().endsWith(type.suffix)) {
-            name = this.config.value();
-        } else {
-            name = this.config.value() + type.suffix;
+        String name = this.config.value();
+        if (!name.endsWith(type.suffix) && !name.endsWith(type.suffix + FileConfiguration.COMPRESSED_SUFFIX)) {
+            name += type.suffix;
         }
-        final File file = new File(
-            GeneralUtilities.addSeparator(
-                this.config.location()
-                    .replace("%basedir%",
-                        GeneralUtilities.basedir(this.managed.getClass()).getParentFile().getAbsolutePath())
-                    .replace("/", File.separator)),
-            name);
+        final String resource = name;
+        if (this.config.compressed() && !name.endsWith(FileConfiguration.COMPRESSED_SUFFIX)) {
+            name += FileConfiguration.COMPRESSED_SUFFIX;
+        }
+        final File file = new File(this.directory(this.config.location()), name);
         if (this.config.copyDefault() && !file.exists()) {
             GeneralUtilities.saveResource(
                 file,
-                GeneralUtilities.addSeparator(this.config.resourcePath()) + name);
+                GeneralUtilities.addSeparator(this.config.resourcePath()) + resource);
+        }
+        if (!this.config.snapshot()) {
+            this.managed.setup(file, type.load(file));
+            new FieldsProceed(this.managed).load();
+            this.managed.save();
+            return;
         }
-        this.managed.setup(file, type.load(file));
+        final SnapshotCache cache = new SnapshotCache(this.config.snapshotLocation().isEmpty()
+            ? null
+            : new File(this.directory(this.config.snapshotLocation())));
+        this.managed.setup(file, cache.load(file, type));
         new FieldsProceed(this.managed).load();
         this.managed.save();
+        cache.save(file, this.managed.getConfigurationSection());
+    }
+
+    @NotNull
+    private String directory(@NotNull final String location) {
+        return GeneralUtilities.addSeparator(
+            location
+                .replace("%basedir%",
+                    GeneralUtilities.basedir(this.managed.getClass()).getParentFile().getAbsolutePath())
+                .replace("/", File.separator));
     }
 
 }
@@ -27,6 +27,7 @@ package io.github.portlek.configs.structure.section;
 
 import io.github.portlek.configs.annotations.ConfigSerializable;
 import io.github.portlek.configs.annotations.Unstable;
+import io.github.portlek.configs.configuration.ConfigPath;
 import io.github.portlek.configs.configuration.ConfigurationSection;
 import io.github.portlek.configs.provided.Provided;
 import io.github.portlek.configs.provided.ProvidedGet;
@@ -251,6 +252,61 @@ public interface CfgSection {
         this.getParent().autoSave();
     }
 
+    default boolean contains(@NotNull final ConfigPath path) {
+        return this.getConfigurationSection().contains(path);
+    }
+
+    @NotNull
+    default Optional<Object> get(@NotNull final ConfigPath path) {
+        return Optional.ofNullable(this.getConfigurationSection().get(path));
+    }
+
+    default void set(@NotNull final ConfigPath path, @Nullable final Object object) {
+        this.getConfigurationSection().set(path, object);
+        this.getParent().autoSave();
+    }
+
+    @NotNull
+    default Optional<String> getString(@NotNull final ConfigPath path) {
+        return this.get(path).map(Object::toString);
+    }
+
+    @NotNull
+    default Optional<Integer> getInteger(@NotNull final ConfigPath path) {
+        return this.get(path).map(value -> GeneralUtilities.toInt(value).orElse(0));
+    }
+
+    default int getInteger(@NotNull final ConfigPath path, final int def) {
+        return this.getConfigurationSection().getInt(path, def);
+    }
+
+    @NotNull
+    default Optional<Boolean> getBoolean(@NotNull final ConfigPath path) {
+        return this.get(path).map(value -> GeneralUtilities.toBoolean(value).orElse(false));
+    }
+
+    default boolean getBoolean(@NotNull final ConfigPath path, final boolean def) {
+        return this.getConfigurationSection().getBoolean(path, def);
+    }
+
+    @NotNull
+    default Optional<Double> getDouble(@NotNull final ConfigPath path) {
+        return this.get(path).map(value -> GeneralUtilities.toDouble(value).orElse(0.0d));
+    }
+
+    default double getDouble(@NotNull final ConfigPath path, final double def) {
+        return this.getConfigurationSection().getDouble(path, def);
+    }
+
+    @NotNull
+    default Optional<Long> getLong(@NotNull final ConfigPath path) {
+        return this.get(path).map(value -> GeneralUtilities.toLong(value).orElse(0L));
+    }
+
+    default long getLong(@NotNull final ConfigPath path, final long def) {
+        return this.getConfigurationSection().getLong(path, def);
+    }
+
     @NotNull
     default CfgSection getOrCreateSection(@NotNull final String path) {
         return this.getSection(path).orElseGet(() -> this.createSection(path));
@@ -417,6 +473,21 @@ public interface CfgSection {
         return this.getIntegerList(path, def).orElse(new ArrayList<>());
     }
 
+    @NotNull
+    default int[] getIntArray(@NotNull final String path) {
+        return this.getConfigurationSection().getIntArray(path);
+    }
+
+    @NotNull
+    default long[] getLongArray(@NotNull final String path) {
+        return this.getConfigurationSection().getLongArray(path);
+    }
+
+    @NotNull
+    default double[] getDoubleArray(@NotNull final String path) {
+        return this.getConfigurationSection().getDoubleArray(path);
+    }
+
     @NotNull
     default Optional<List<Boolean>> getBooleanList(@NotNull final String path) {
         return this.getGeneric(path, this.getConfigurationSection()::getBooleanList);
@@ -26,13 +26,16 @@
 package io.github.portlek.configs.util;
 
 import io.github.portlek.configs.configuration.ConfigurationSection;
+import io.github.portlek.configs.configuration.FileConfiguration;
 import io.github.portlek.configs.files.json.minimaljson.JsonValue;
 import io.github.portlek.configs.processors.ConfigProceed;
 import java.io.*;
+import java.math.BigInteger;
 import java.net.URLConnection;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
@@ -100,7 +103,12 @@ public class GeneralUtilities {
             outFile.createNewFile();
         }
         final String replace = path.replace('\\', File.separatorChar);
-        try (final OutputStream out = new FileOutputStream(outFile);
+        // a resource which is not compressed is compressed while it is copied to a compressed file
+        final boolean compress = FileConfiguration.isCompressed(outFile.toPath()) &&
+            !replace.endsWith(FileConfiguration.COMPRESSED_SUFFIX);
+        try (final OutputStream out = compress
+            ? new GZIPOutputStream(new FileOutputStream(outFile))
+            : new FileOutputStream(outFile);
              final InputStream input = GeneralUtilities.getResource(replace).orElseThrow(() ->
                  new IllegalArgumentException("The embedded resource '" + replace + "' cannot be found!"))) {
             final byte[] buf = new byte[1024];
@@ -247,21 +255,86 @@ public class GeneralUtilities {
                 }));
     }
 
+    /**
+     * Types the given JSON number lexically, the same way {@link #parseScalar(String)} does, so integers
+     * become {@link Integer} or {@link Long} (or {@link Double} when they do not fit a long) and numbers
+     * with a fraction or an exponent become {@link Double}, without trying the types one after another.
+     * Returns null if the text is not a number.
+     */
+    @Nullable
+    public Object parseNumber(@NotNull final String number) {
+        final Object parsed = GeneralUtilities.parseScalar(number);
+        return parsed instanceof Number ? parsed : null;
+    }
+
     @Nullable
     public Object parseNumber(@NotNull final JsonValue number) {
-        try {
-            return number.asInt();
-        } catch (final NumberFormatException e) {
-            try {
-                return number.asLong();
-            } catch (final NumberFormatException e1) {
-                try {
-                    return number.asDouble();
-                } catch (final NumberFormatException ignored) {
-                }
+        if (!number.isNumber()) {
+            throw new UnsupportedOperationException("Not a number: " + number);
+        }
+        return GeneralUtilities.parseNumber(number.toString());
+    }
+
+    /**
+     * Types the given scalar text in a single pass, following the YAML 1.2 core schema, and parses
+     * only the type it was found to be. Integers become {@link Integer} or {@link Long} (or {@link Double}
+     * when they do not fit a long), floats become {@link Double}, {@code true}/{@code false} in any case
+     * become {@link Boolean}, everything else is returned as it is.
+     * <p>
+     * Integers may be written in hexadecimal ({@code 0x1F}) or octal ({@code 0o17}), and floats may be
+     * {@code .inf}, {@code -.inf} or {@code .nan} as well as {@code Infinity} or {@code NaN}. A scalar of
+     * a single character which is not a digit stays a {@link String}, as it always did; it is never typed
+     * as a {@link Character}.
+     */
+    @NotNull
+    public Object parseScalar(@NotNull final String value) {
+        final int length = value.length();
+        if (length == 0) {
+            return value;
+        }
+        final char first = value.charAt(0);
+        if (first == 't' || first == 'T' || first == 'f' || first == 'F') {
+            if ("true".equalsIgnoreCase(value)) {
+                return Boolean.TRUE;
+            }
+            if ("false".equalsIgnoreCase(value)) {
+                return Boolean.FALSE;
+            }
+            return value;
+        }
+        if (first == '0' && length > 2 && value.charAt(1) == 'x') {
+            return GeneralUtilities.parseInteger(value, 2, 16);
+        }
+        if (first == '0' && length > 2 && value.charAt(1) == 'o') {
+            return GeneralUtilities.parseInteger(value, 2, 8);
+        }
+        final int start = first == '-' || first == '+' ? 1 : 0;
+        int index = GeneralUtilities.skipDigits(value, start);
+        final int integral = index - start;
+        if (index == length) {
+            return integral == 0 ? value : GeneralUtilities.parseInteger(value, start, 10);
+        }
+        int fraction = 0;
+        if (value.charAt(index) == '.') {
+            final int dot = ++index;
+            index = GeneralUtilities.skipDigits(value, index);
+            fraction = index - dot;
+        }
+        if (integral + fraction == 0) {
+            return GeneralUtilities.parseSpecial(value, start);
+        }
+        if (index < length && (value.charAt(index) == 'e' || value.charAt(index) == 'E')) {
+            index++;
+            if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+                index++;
+            }
+            final int exponent = index;
+            index = GeneralUtilities.skipDigits(value, index);
+            if (index == exponent) {
+                return value;
             }
         }
-        return null;
+        return index == length ? Double.valueOf(value) : value;
     }
 
     /**
@@ -283,4 +356,76 @@ public class GeneralUtilities {
         return objects;
     }
 
+
+    /**
+     * Parses the digits of the given value from the given index, narrowing them to the smallest of
+     * {@link Integer}, {@link Long} and {@link Double} which can hold them. The value is returned as it
+     * is if any of the digits is not valid for the radix.
+     */
+    @NotNull
+    private Object parseInteger(@NotNull final String value, final int start, final int radix) {
+        if (GeneralUtilities.skipDigits(value, start, radix) != value.length()) {
+            return value;
+        }
+        final boolean negative = value.charAt(0) == '-';
+        final String digits = value.substring(start);
+        final long number;
+        if (digits.length() <= (radix == 10 ? 18 : 15)) {
+            final long parsed = Long.parseLong(digits, radix);
+            number = negative ? -parsed : parsed;
+        } else {
+            final BigInteger parsed = new BigInteger(digits, radix);
+            final BigInteger signed = negative ? parsed.negate() : parsed;
+            if (signed.bitLength() >= 64) {
+                return signed.doubleValue();
+            }
+            number = signed.longValue();
+        }
+        if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+            return (int) number;
+        }
+        return number;
+    }
+
+    /**
+     * Parses the infinities and not-a-number written either as YAML ({@code .inf}, {@code .nan}) or as
+     * {@link Double#toString(double)} writes them ({@code Infinity}, {@code NaN}).
+     */
+    @NotNull
+    private Object parseSpecial(@NotNull final String value, final int start) {
+        final String special = start == 0 ? value : value.substring(start);
+        final boolean negative = start > 0 && value.charAt(0) == '-';
+        if (".inf".equals(special) || ".Inf".equals(special) || ".INF".equals(special) ||
+            "Infinity".equals(special)) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        if (start == 0 && (".nan".equals(special) || ".NaN".equals(special) || ".NAN".equals(special) ||
+            "NaN".equals(special))) {
+            return Double.NaN;
+        }
+        return value;
+    }
+
+    private int skipDigits(@NotNull final String value, final int start) {
+        return GeneralUtilities.skipDigits(value, start, 10);
+    }
+
+    private int skipDigits(@NotNull final String value, final int start, final int radix) {
+        int index = start;
+        while (index < value.length()) {
+            final char character = value.charAt(index);
+            final boolean digit;
+            if (character >= '0' && character <= '9') {
+                digit = character - '0' < radix;
+            } else {
+                digit = radix == 16 && (character >= 'a' && character <= 'f' || character >= 'A' && character <= 'F');
+            }
+            if (!digit) {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
 }
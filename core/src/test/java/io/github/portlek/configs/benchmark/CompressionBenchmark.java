@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.benchmark;
+
+import io.github.portlek.configs.configuration.FileConfiguration;
+import io.github.portlek.configs.files.FileType;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Saves and loads the same players as plain and as gzip compressed YAML and JSON files, and prints the size of
+ * each file with the best save and load time of a few rounds.
+ * <p>
+ * Run its main method from the test classpath, with the number of players as the optional argument.
+ */
+public final class CompressionBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    private CompressionBenchmark() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final int players = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        final Path directory = Files.createTempDirectory("compression");
+        for (final FileType type : new FileType[]{FileType.YAML, FileType.JSON}) {
+            final FileConfiguration configuration = type.create();
+            Samples.players(configuration, players);
+            for (final String suffix : new String[]{"", FileConfiguration.COMPRESSED_SUFFIX}) {
+                final File file = directory.resolve("players" + type.suffix + suffix).toFile();
+                long save = Long.MAX_VALUE;
+                long load = Long.MAX_VALUE;
+                for (int round = 0; round < CompressionBenchmark.ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    configuration.save(file);
+                    save = Math.min(save, System.nanoTime() - start);
+                    start = System.nanoTime();
+                    type.load(file);
+                    load = Math.min(load, System.nanoTime() - start);
+                }
+                System.out.printf("%-16s %6.2f MB  save %4d ms  load %4d ms%n", file.getName(),
+                    file.length() / 1e6, save / 1000000, load / 1000000);
+                Files.delete(file.toPath());
+            }
+        }
+        Files.delete(directory);
+    }
+
+}
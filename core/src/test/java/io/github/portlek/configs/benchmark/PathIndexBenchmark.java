@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.benchmark;
+
+import io.github.portlek.configs.configuration.MemoryConfiguration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Gets every leaf of the sample players in a shuffled order, with and without the path index of the root, and
+ * prints the best time per get of a few rounds with the heap the index takes.
+ * <p>
+ * Run its main method from the test classpath, with the number of players as the optional argument.
+ */
+public final class PathIndexBenchmark {
+
+    private static final int ROUNDS = 10;
+
+    private PathIndexBenchmark() {
+    }
+
+    public static void main(final String[] args) {
+        final int players = args.length > 0 ? Integer.parseInt(args[0]) : 16000;
+        final MemoryConfiguration configuration = new MemoryConfiguration();
+        Samples.players(configuration, players);
+        final List<String> paths = new ArrayList<>();
+        for (final String path : configuration.getKeys(true)) {
+            if (!configuration.isConfigurationSection(path)) {
+                paths.add(path);
+            }
+        }
+        Collections.shuffle(paths, new Random(42L));
+        final long tree = Samples.usedHeap();
+        System.out.printf("%d paths, walk:  %4.0f ns/get%n", paths.size(),
+            PathIndexBenchmark.best(configuration, paths));
+        configuration.options().pathIndex(true);
+        final long index = Samples.usedHeap() - tree;
+        System.out.printf("%d paths, index: %4.0f ns/get, index %.1f MB (%d B/path)%n", paths.size(),
+            PathIndexBenchmark.best(configuration, paths), index / 1e6, index / paths.size());
+    }
+
+    private static double best(@NotNull final MemoryConfiguration configuration, @NotNull final List<String> paths) {
+        long best = Long.MAX_VALUE;
+        int found = 0;
+        for (int round = 0; round < PathIndexBenchmark.ROUNDS; round++) {
+            final long start = System.nanoTime();
+            for (final String path : paths) {
+                if (configuration.get(path) != null) {
+                    found++;
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (found != paths.size() * PathIndexBenchmark.ROUNDS) {
+            throw new IllegalStateException("A path was not found");
+        }
+        return best / (double) paths.size();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.benchmark;
+
+import io.github.portlek.configs.configuration.ConfigurationSection;
+import java.util.Random;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The data the benchmarks run on, shaped like the player files of a server: a section for each player, holding a
+ * few small sections of two to six keys each. A player has 8 sections and 30 paths.
+ */
+final class Samples {
+
+    private Samples() {
+    }
+
+    /**
+     * Fills the section with the players, the same ones for the same count.
+     *
+     * @param section The section to fill.
+     * @param count The number of players.
+     */
+    static void players(@NotNull final ConfigurationSection section, final int count) {
+        final Random random = new Random(42L);
+        for (int index = 0; index < count; index++) {
+            final ConfigurationSection player = section.createSection("player" + index);
+            player.set("name", "Player" + index);
+            player.set("balance", random.nextInt(100000) / 100.0);
+            player.set("flags.vip", random.nextBoolean());
+            player.set("flags.joined", 1600000000000L + index);
+            player.set("stats.kills", random.nextInt(1000));
+            player.set("stats.deaths", random.nextInt(1000));
+            player.set("stats.level", random.nextInt(100));
+            player.set("location.world", "world");
+            player.set("location.x", random.nextInt(1000) + 0.5);
+            player.set("location.y", 64.0);
+            player.set("location.z", random.nextInt(1000) + 0.5);
+            player.set("location.yaw", 90.0);
+            player.set("location.pitch", 0.0);
+            for (int home = 0; home < 3; home++) {
+                final ConfigurationSection place = player.createSection("homes.home" + home);
+                place.set("world", "world");
+                place.set("x", random.nextInt(1000));
+                place.set("z", random.nextInt(1000));
+            }
+        }
+    }
+
+    /**
+     * Gives the heap in use, after collecting the garbage.
+     *
+     * @return The heap in use, in bytes.
+     */
+    static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int index = 0; index < 5; index++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
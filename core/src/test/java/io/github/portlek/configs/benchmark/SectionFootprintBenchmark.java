@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.benchmark;
+
+import io.github.portlek.configs.configuration.ConfigurationSection;
+import io.github.portlek.configs.files.yaml.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Loads the YAML of the sample players a few times over, and prints the heap each loaded copy takes with the
+ * best time of a few rounds of lookups in it.
+ * <p>
+ * Run its main method from the test classpath, with the number of players as the optional argument.
+ */
+public final class SectionFootprintBenchmark {
+
+    private static final int COPIES = 10;
+
+    private static final int ROUNDS = 20;
+
+    private static final int SECTIONS = 8;
+
+    private SectionFootprintBenchmark() {
+    }
+
+    public static void main(final String[] args) {
+        final int players = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        final YamlConfiguration sample = new YamlConfiguration();
+        Samples.players(sample, players);
+        final String text = sample.saveToString();
+        final long before = Samples.usedHeap();
+        final YamlConfiguration[] copies = new YamlConfiguration[SectionFootprintBenchmark.COPIES];
+        for (int index = 0; index < copies.length; index++) {
+            copies[index] = new YamlConfiguration();
+            copies[index].loadFromString(text);
+        }
+        final long copy = (Samples.usedHeap() - before) / copies.length;
+        final int sections = players * SectionFootprintBenchmark.SECTIONS;
+        System.out.printf("%d players, %d sections: %d KB per copy (%d B/section)%n", players, sections,
+            copy / 1024, copy / sections);
+        long best = Long.MAX_VALUE;
+        long sum = 0L;
+        for (int round = 0; round < SectionFootprintBenchmark.ROUNDS; round++) {
+            final long start = System.nanoTime();
+            for (final YamlConfiguration configuration : copies) {
+                sum += SectionFootprintBenchmark.lookups(configuration, players);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%d getInt/getString lookups: best %.1f ms (%d)%n",
+            players * 2 * copies.length, best / 1e6, sum);
+    }
+
+    private static long lookups(@NotNull final ConfigurationSection configuration, final int players) {
+        long sum = 0L;
+        for (int index = 0; index < players; index++) {
+            final String player = "player" + index;
+            sum += configuration.getInt(player + ".stats.kills", 0);
+            sum += configuration.getString(player + ".location.world", "").length();
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.benchmark;
+
+import io.github.portlek.configs.files.yaml.YamlConfiguration;
+import io.github.portlek.configs.files.yaml.eoyaml.Scalar;
+import io.github.portlek.configs.files.yaml.eoyaml.Yaml;
+import io.github.portlek.configs.files.yaml.eoyaml.YamlMapping;
+import io.github.portlek.configs.files.yaml.eoyaml.YamlNode;
+import io.github.portlek.configs.files.yaml.eoyaml.YamlSequence;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Walks every key and value of a read YAML mapping again and again, which reads each node once and then serves
+ * it from memory since the children of read nodes are memoized.
+ * <p>
+ * Run its main method from the test classpath, with the number of players as the optional argument.
+ */
+public final class YamlNodeBenchmark {
+
+    private static final int ROUNDS = 200;
+
+    private YamlNodeBenchmark() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final int players = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        final YamlConfiguration configuration = new YamlConfiguration();
+        Samples.players(configuration, players);
+        final YamlMapping mapping = Yaml.createYamlInput(configuration.saveToString()).readYamlMapping();
+        long first = 0L;
+        long best = Long.MAX_VALUE;
+        int nodes = 0;
+        for (int round = 0; round < YamlNodeBenchmark.ROUNDS; round++) {
+            final long start = System.nanoTime();
+            nodes = YamlNodeBenchmark.walk(mapping);
+            final long time = System.nanoTime() - start;
+            if (round == 0) {
+                first = time;
+            } else {
+                best = Math.min(best, time);
+            }
+        }
+        System.out.printf("%d players, %d nodes: first round %.1f ms, best later round %.2f ms%n",
+            players, nodes, first / 1e6, best / 1e6);
+    }
+
+    private static int walk(@NotNull final YamlNode node) {
+        if (node instanceof Scalar) {
+            return ((Scalar) node).value().length() >= 0 ? 1 : 0;
+        }
+        int nodes = 1;
+        if (node instanceof YamlSequence) {
+            for (final YamlNode value : ((YamlSequence) node).values()) {
+                nodes += YamlNodeBenchmark.walk(value);
+            }
+        } else if (node instanceof YamlMapping) {
+            final YamlMapping mapping = (YamlMapping) node;
+            for (final YamlNode key : mapping.keys()) {
+                nodes += YamlNodeBenchmark.walk(mapping.value(key));
+            }
+        }
+        return nodes;
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.configuration;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class CompactMapTest {
+
+    private static void assertSame(final Map<String, Object> expected, final CompactMap map) {
+        Assertions.assertEquals(expected, map);
+        Assertions.assertEquals(map, expected);
+        Assertions.assertEquals(expected.hashCode(), map.hashCode());
+        Assertions.assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+        Assertions.assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(map.values()));
+    }
+
+    @Test
+    void behavesLikeALinkedHashMap() {
+        final Random random = new Random(42L);
+        for (int run = 0; run < 200; run++) {
+            final Map<String, Object> expected = new LinkedHashMap<>();
+            final CompactMap map = new CompactMap();
+            for (int step = 0; step < 100; step++) {
+                final String key = "key" + random.nextInt(CompactMap.THRESHOLD + 4);
+                final int operation = random.nextInt(10);
+                if (operation < 5) {
+                    final Object value = random.nextInt(4) == 0 ? null : step;
+                    Assertions.assertEquals(expected.put(key, value), map.put(key, value));
+                } else if (operation < 7) {
+                    Assertions.assertEquals(expected.remove(key), map.remove(key));
+                } else if (operation == 7) {
+                    final Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+                    expected.entrySet().removeIf(entry -> entry.getKey().equals(key));
+                    while (iterator.hasNext()) {
+                        if (iterator.next().getKey().equals(key)) {
+                            iterator.remove();
+                        }
+                    }
+                } else if (operation == 8) {
+                    for (final Map.Entry<String, Object> entry : map.entrySet()) {
+                        if (entry.getKey().equals(key)) {
+                            entry.setValue(-step);
+                            expected.put(key, -step);
+                        }
+                    }
+                } else if (random.nextInt(10) == 0) {
+                    expected.clear();
+                    map.clear();
+                }
+                Assertions.assertEquals(expected.containsKey(key), map.containsKey(key));
+                Assertions.assertEquals(expected.get(key), map.get(key));
+                Assertions.assertEquals(expected.size(), map.size());
+            }
+            CompactMapTest.assertSame(expected, map);
+            CompactMapTest.assertSame(expected, CompactMap.copyOf(map));
+            CompactMapTest.assertSame(expected, CompactMap.copyOf(expected));
+        }
+    }
+
+    @Test
+    void copiesIndependently() {
+        final CompactMap map = new CompactMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        final CompactMap copy = CompactMap.copyOf(map);
+        copy.put("a", 3);
+        copy.put("c", 4);
+        map.remove("b");
+        Assertions.assertEquals(1, map.get("a"));
+        Assertions.assertFalse(map.containsKey("c"));
+        Assertions.assertEquals(3, copy.get("a"));
+        Assertions.assertEquals(2, copy.get("b"));
+    }
+
+    @Test
+    void failsFastWhenChangedWhileIterated() {
+        final CompactMap map = new CompactMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        final Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put("c", 3);
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void failsFastWhenPromotedWhileIterated() {
+        final CompactMap map = new CompactMap();
+        for (int index = 0; index < CompactMap.THRESHOLD; index++) {
+            map.put("key" + index, index);
+        }
+        final Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put("promoting", -1);
+        Assertions.assertTrue(iterator.hasNext());
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.configuration;
+
+import io.github.portlek.configs.files.FileType;
+import io.github.portlek.configs.files.yaml.YamlConfiguration;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FileConfigurationTest {
+
+    @TempDir
+    Path directory;
+
+    private static void write(final Path path, final byte[] bytes) throws IOException {
+        try (final OutputStream output = FileConfiguration.isCompressed(path)
+            ? new GZIPOutputStream(Files.newOutputStream(path))
+            : Files.newOutputStream(path)) {
+            output.write(bytes);
+        }
+    }
+
+    private static FileConfiguration failing() {
+        return new FileConfiguration() {
+            @NotNull
+            @Override
+            public String saveToString() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void save(@NotNull final Writer writer) throws IOException {
+                writer.write("half: written");
+                writer.flush();
+                throw new IOException("Failed while saving");
+            }
+
+            @Override
+            public void loadFromString(@NotNull final String contents) {
+            }
+        };
+    }
+
+    private String files() throws IOException {
+        try (final Stream<Path> files = Files.list(this.directory)) {
+            return files.map(path -> path.getFileName().toString())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        }
+    }
+
+    @Test
+    void loadsUtf8() throws IOException {
+        for (final String name : new String[]{"config.yml", "config.yml.gz"}) {
+            final Path path = this.directory.resolve(name);
+            FileConfigurationTest.write(path, "name: Hasan Demirtaş\n".getBytes(StandardCharsets.UTF_8));
+            final YamlConfiguration configuration = new YamlConfiguration();
+            configuration.load(path);
+            Assertions.assertEquals("Hasan Demirtaş", configuration.getString("name"), name);
+        }
+    }
+
+    @Test
+    void replacesMalformedInput() throws IOException {
+        for (final String name : new String[]{"latin.yml", "latin.yml.gz"}) {
+            final Path path = this.directory.resolve(name);
+            FileConfigurationTest.write(path, "name: café\nnext: value\n".getBytes(StandardCharsets.ISO_8859_1));
+            final YamlConfiguration configuration = new YamlConfiguration();
+            configuration.load(path);
+            Assertions.assertEquals("caf\uFFFD", configuration.getString("name"), name);
+            Assertions.assertEquals("value", configuration.getString("next"), name);
+        }
+    }
+
+    @Test
+    void savesWithoutTemporaryFiles() throws IOException {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.set("key", "value");
+        configuration.save(this.directory.resolve("config.yml"));
+        configuration.save(this.directory.resolve("config.yml"));
+        configuration.save(this.directory.resolve("data.yml.gz"));
+        Assertions.assertEquals("config.yml, data.yml.gz", this.files());
+        final YamlConfiguration loaded = new YamlConfiguration();
+        loaded.load(this.directory.resolve("data.yml.gz"));
+        Assertions.assertEquals("value", loaded.getString("key"));
+    }
+
+    @Test
+    void keepsTheFileWhenSavingFails() throws IOException {
+        for (final String name : new String[]{"config.yml", "config.yml.gz"}) {
+            final Path path = this.directory.resolve(name);
+            final YamlConfiguration configuration = new YamlConfiguration();
+            configuration.set("key", "old");
+            configuration.save(path);
+            Assertions.assertThrows(IOException.class, () -> FileConfigurationTest.failing().save(path), name);
+            final YamlConfiguration loaded = new YamlConfiguration();
+            loaded.load(path);
+            Assertions.assertEquals(Collections.singleton("key"), loaded.getKeys(false), name);
+            Assertions.assertEquals("old", loaded.getString("key"), name);
+        }
+        Assertions.assertEquals("config.yml, config.yml.gz", this.files());
+    }
+
+    @Test
+    void replacesUnmappableCharacters() throws IOException {
+        final Path path = this.directory.resolve("config.yml");
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.set("broken", "a\uD800b");
+        configuration.set("next", "value");
+        configuration.save(path);
+        final YamlConfiguration loaded = new YamlConfiguration();
+        loaded.load(path);
+        Assertions.assertEquals("a?b", loaded.getString("broken"));
+        Assertions.assertEquals("value", loaded.getString("next"));
+    }
+
+    @Test
+    void keepsCompressedFiles() throws IOException {
+        for (final FileType type : FileType.values()) {
+            final Path path = this.directory.resolve("data" + type.suffix + FileConfiguration.COMPRESSED_SUFFIX);
+            final FileConfiguration configuration = type.create();
+            configuration.set("section.key", "Hasan Demirtaş");
+            configuration.set("list", Arrays.asList("a", "b"));
+            configuration.save(path);
+            final byte[] bytes = Files.readAllBytes(path);
+            Assertions.assertEquals((byte) 0x1F, bytes[0], type.name());
+            Assertions.assertEquals((byte) 0x8B, bytes[1], type.name());
+            final FileConfiguration loaded = type.load(path.toFile());
+            Assertions.assertEquals("Hasan Demirtaş", loaded.getString("section.key"), type.name());
+            Assertions.assertEquals(Arrays.asList("a", "b"), loaded.getStringList("list"), type.name());
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class PathIndexTest {
+
+    private static final List<String> PATHS = Arrays.asList("a", "a.b", "a.b.c", "a.b.c.d", "a.b.e", "a.x", "s",
+        "s.t", "s.t.u", "s.t.k", "s.t.m.n", "s.t.v", "f", "f.y", "f.z", "g", "g.k", "h", "h.k", "missing.path");
+
+    private static MemoryConfiguration configuration(final boolean indexed) {
+        final MemoryConfiguration configuration = new MemoryConfiguration();
+        configuration.options().pathIndex(indexed);
+        return configuration;
+    }
+
+    private static Object describe(final Object value) {
+        return value instanceof ConfigurationSection ? "section" : value;
+    }
+
+    /**
+     * Runs the changes on a configuration with the index and on one without it, and checks that every path
+     * reads the same from both.
+     */
+    private static void assertSameAsUnindexed(final Consumer<MemoryConfiguration> changes) {
+        final MemoryConfiguration plain = PathIndexTest.configuration(false);
+        final MemoryConfiguration indexed = PathIndexTest.configuration(true);
+        changes.accept(plain);
+        changes.accept(indexed);
+        final Set<String> paths = new TreeSet<>(PathIndexTest.PATHS);
+        paths.addAll(plain.getKeys(true));
+        paths.addAll(indexed.getKeys(true));
+        for (final String path : paths) {
+            Assertions.assertEquals(PathIndexTest.describe(plain.get(path)), PathIndexTest.describe(indexed.get(path)),
+                path);
+            Assertions.assertEquals(plain.contains(path), indexed.contains(path), path);
+        }
+        Assertions.assertEquals(plain.getKeys(true), indexed.getKeys(true));
+    }
+
+    @Test
+    void setsAndRemovesAtDepth() {
+        PathIndexTest.assertSameAsUnindexed(configuration -> {
+            configuration.set("a.b.c.d", 1);
+            configuration.set("a.b.e", 2);
+            configuration.set("a.x", 3);
+            configuration.set("a.b.c.d", null);
+            configuration.set("a.b.c", "leaf");
+            configuration.set("a.b.e", null);
+        });
+    }
+
+    @Test
+    void createsSectionsAtDepth() {
+        PathIndexTest.assertSameAsUnindexed(configuration -> {
+            configuration.createSection("s.t.u");
+            final Map<String, Object> values = new LinkedHashMap<>();
+            values.put("k", 1);
+            values.put("m", Collections.singletonMap("n", 2));
+            final ConfigurationSection section = configuration.createSection("s.t", values);
+            section.set("v", 3);
+            section.getConfigurationSection("m").set("n", 4);
+        });
+    }
+
+    @Test
+    void replacesASubtree() {
+        PathIndexTest.assertSameAsUnindexed(configuration -> {
+            configuration.set("a.b.c", 1);
+            final ConfigurationSection old = configuration.getConfigurationSection("a.b");
+            configuration.createSection("a.b");
+            configuration.set("a.b.e", 2);
+            old.set("c", 5);
+            old.set("d", 6);
+            configuration.set("a.x", 3);
+            final ConfigurationSection replaced = configuration.getConfigurationSection("a");
+            configuration.set("a", null);
+            replaced.set("x", 4);
+        });
+    }
+
+    @Test
+    void setsASectionFromAnotherTree() {
+        final MemoryConfiguration other = new MemoryConfiguration();
+        other.set("x.y", 1);
+        final ConfigurationSection foreign = other.getConfigurationSection("x");
+        PathIndexTest.assertSameAsUnindexed(configuration -> configuration.set("f", foreign));
+        other.set("x.y", 2);
+        other.set("x.z", 3);
+        PathIndexTest.assertSameAsUnindexed(configuration -> {
+            configuration.set("f", foreign);
+            foreign.set("y", null);
+            foreign.set("z", 4);
+        });
+        PathIndexTest.assertSameAsUnindexed(configuration -> {
+            configuration.set("f", foreign);
+            configuration.set("f", "replaced");
+            configuration.set("f.y", 5);
+        });
+    }
+
+    @Test
+    void setsASectionFromAnotherPath() {
+        PathIndexTest.assertSameAsUnindexed(configuration -> {
+            configuration.set("h.k", 1);
+            configuration.set("g", configuration.getConfigurationSection("h"));
+            configuration.set("h.k", 2);
+        });
+        PathIndexTest.assertSameAsUnindexed(configuration -> {
+            configuration.set("h.k", 1);
+            final ConfigurationSection moved = configuration.getConfigurationSection("h");
+            configuration.set("g", moved);
+            configuration.set("h", null);
+            moved.set("k", 3);
+            configuration.set("g", null);
+            configuration.set("g.k", 4);
+        });
+    }
+
+}
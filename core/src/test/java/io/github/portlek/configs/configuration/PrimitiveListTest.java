@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class PrimitiveListTest {
+
+    private static PrimitiveList ints(final Integer... values) {
+        return (PrimitiveList) PrimitiveList.compact(Arrays.asList(values));
+    }
+
+    @Test
+    void compactsListsOfASingleNumberType() {
+        Assertions.assertTrue(PrimitiveList.compact(Arrays.asList(1, 2)) instanceof PrimitiveList.Ints);
+        Assertions.assertTrue(PrimitiveList.compact(Arrays.asList(1L, 2L)) instanceof PrimitiveList.Longs);
+        Assertions.assertTrue(PrimitiveList.compact(Arrays.asList(1.0, 2.0)) instanceof PrimitiveList.Doubles);
+        for (final List<?> list : Arrays.asList(Arrays.asList(1, 2L), Arrays.asList(1, null),
+            Arrays.asList(null, 1), Arrays.asList("a", "b"), Arrays.asList((short) 1, (short) 2),
+            Collections.emptyList())) {
+            Assertions.assertSame(list, PrimitiveList.compact(list), list.toString());
+        }
+    }
+
+    @Test
+    void takesAnyElement() {
+        final PrimitiveList list = PrimitiveListTest.ints(1, 2, 3);
+        final List<Object> expected = new ArrayList<>(Arrays.asList(1, 2, 3));
+        list.add(4);
+        expected.add(4);
+        Assertions.assertTrue(list.primitive());
+        list.add("text");
+        expected.add("text");
+        list.add(1, null);
+        expected.add(1, null);
+        list.set(0, 5L);
+        expected.set(0, 5L);
+        Assertions.assertFalse(list.primitive());
+        Assertions.assertEquals(expected, list);
+        Assertions.assertEquals(expected.hashCode(), list.hashCode());
+        Assertions.assertEquals(2, list.remove(2));
+        expected.remove(2);
+        list.add(6);
+        expected.add(6);
+        Assertions.assertEquals(expected, list);
+    }
+
+    @Test
+    void keepsItsArrayForItsOwnType() {
+        final PrimitiveList.Ints list = (PrimitiveList.Ints) PrimitiveListTest.ints(1, 2, 3);
+        Assertions.assertEquals(1, list.set(0, 7));
+        list.add(0, 0);
+        Assertions.assertEquals(3, list.remove(3));
+        Assertions.assertArrayEquals(new int[]{0, 7, 2}, list.values());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        list.set(1, "text");
+        Assertions.assertNull(list.values());
+        Assertions.assertEquals(Arrays.asList(0, "text", 2), list);
+    }
+
+    @Test
+    void clearsIntoAnyElements() {
+        final PrimitiveList list = PrimitiveListTest.ints(1, 2, 3);
+        list.clear();
+        Assertions.assertTrue(list.isEmpty());
+        list.add("text");
+        list.add(1);
+        Assertions.assertEquals(Arrays.asList("text", 1), list);
+    }
+
+    @Test
+    void storesACopyOfTheSetList() {
+        final MemoryConfiguration configuration = new MemoryConfiguration();
+        final List<Integer> original = new ArrayList<>(Arrays.asList(1, 2, 3));
+        configuration.set("list", original);
+        original.add(4);
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), configuration.getList("list"));
+        configuration.getIntegerList("list").add(5);
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), configuration.getList("list"));
+    }
+
+    @Test
+    void sharesTheStoredList() {
+        final MemoryConfiguration configuration = new MemoryConfiguration();
+        configuration.set("list", Arrays.asList(1, 2, 3));
+        configuration.getIntArray("list")[0] = 9;
+        Assertions.assertEquals(Arrays.asList(9, 2, 3), configuration.getList("list"));
+        // noinspection unchecked
+        final List<Object> list = (List<Object>) configuration.getList("list");
+        list.add(true);
+        Assertions.assertEquals(Arrays.asList(9, 2, 3, true), configuration.get("list"));
+        Assertions.assertEquals(Arrays.asList(9, 2, 3), configuration.getIntegerList("list"));
+        Assertions.assertArrayEquals(new int[]{9, 2, 3}, configuration.getIntArray("list"));
+    }
+
+}
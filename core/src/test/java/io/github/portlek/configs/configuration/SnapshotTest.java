@@ -0,0 +1,236 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class SnapshotTest {
+
+    private static final String[] PATHS = {"a", "b", "s.a", "s.b", "s.t.a", "s.t.b", "u.a", "u.v.a"};
+
+    /**
+     * Gives the values of the leaves of the section, with their lists copied.
+     */
+    private static Map<String, Object> leaves(final ConfigurationSection section) {
+        final Map<String, Object> leaves = new LinkedHashMap<>();
+        for (final Map.Entry<String, Object> entry : section.getValues(true).entrySet()) {
+            if (entry.getValue() instanceof ConfigurationSection) {
+                leaves.put(entry.getKey(), "section");
+            } else if (entry.getValue() instanceof List) {
+                leaves.put(entry.getKey(), new ArrayList<>((List<?>) entry.getValue()));
+            } else {
+                leaves.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return leaves;
+    }
+
+    private static MemoryConfiguration sample() {
+        final MemoryConfiguration configuration = new MemoryConfiguration();
+        configuration.set("name", "first");
+        configuration.set("section.value", 1);
+        configuration.set("section.numbers", Arrays.asList(1, 2, 3));
+        configuration.set("section.strings", new ArrayList<>(Arrays.asList("a", "b")));
+        configuration.set("section.nested", new ArrayList<>(Arrays.asList(new ArrayList<>(Arrays.asList("x")))));
+        return configuration;
+    }
+
+    @Test
+    void keepsTheValuesOfItsTime() {
+        final MemoryConfiguration configuration = SnapshotTest.sample();
+        final Map<String, Object> before = SnapshotTest.leaves(configuration);
+        final Configuration snapshot = configuration.snapshot();
+        configuration.set("name", "second");
+        configuration.set("section.value", null);
+        configuration.set("section.added", true);
+        configuration.createSection("other").set("key", "value");
+        Assertions.assertEquals(before, SnapshotTest.leaves(snapshot));
+        Assertions.assertEquals("first", snapshot.getString("name"));
+        Assertions.assertEquals("second", configuration.getString("name"));
+        Assertions.assertFalse(snapshot.contains("other"));
+    }
+
+    @Test
+    void isReadOnly() {
+        final Configuration snapshot = SnapshotTest.sample().snapshot();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.set("name", "changed"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.createSection("other"));
+        // noinspection unchecked
+        final List<Object> strings = (List<Object>) snapshot.getList("section.strings");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> strings.add("c"));
+        // noinspection unchecked
+        final List<Object> nested = (List<Object>) snapshot.getList("section.nested").get(0);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> nested.add("y"));
+        snapshot.getIntArray("section.numbers")[0] = 9;
+        Assertions.assertArrayEquals(new int[]{1, 2, 3}, snapshot.getIntArray("section.numbers"));
+    }
+
+    @Test
+    void keepsItsListsWhenTheSectionChangesThem() {
+        final MemoryConfiguration configuration = SnapshotTest.sample();
+        final Map<String, Object> before = SnapshotTest.leaves(configuration);
+        final Configuration snapshot = configuration.snapshot();
+        // noinspection unchecked
+        ((List<Object>) configuration.getList("section.strings")).add("c");
+        // noinspection unchecked
+        ((List<Object>) configuration.getList("section.nested").get(0)).add("y");
+        // noinspection unchecked
+        ((List<Object>) configuration.getList("section.numbers")).add(4);
+        configuration.getIntArray("section.numbers")[0] = 9;
+        Assertions.assertEquals(before, SnapshotTest.leaves(snapshot));
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), configuration.getList("section.strings"));
+        Assertions.assertArrayEquals(new int[]{9, 2, 3, 4}, configuration.getIntArray("section.numbers"));
+    }
+
+    @Test
+    void forksChangeApart() {
+        final MemoryConfiguration configuration = SnapshotTest.sample();
+        final Map<String, Object> before = SnapshotTest.leaves(configuration);
+        final Configuration fork = configuration.fork();
+        fork.set("name", "fork");
+        // noinspection unchecked
+        ((List<Object>) fork.getList("section.strings")).add("fork");
+        fork.getIntArray("section.numbers")[0] = 9;
+        fork.createSection("section.inner").set("key", "fork");
+        Assertions.assertEquals(before, SnapshotTest.leaves(configuration));
+        final Map<String, Object> forked = SnapshotTest.leaves(fork);
+        configuration.set("name", "source");
+        // noinspection unchecked
+        ((List<Object>) configuration.getList("section.nested").get(0)).add("source");
+        configuration.set("section", null);
+        Assertions.assertEquals(forked, SnapshotTest.leaves(fork));
+        Assertions.assertEquals(Arrays.asList("a", "b", "fork"), fork.getList("section.strings"));
+        Assertions.assertArrayEquals(new int[]{9, 2, 3}, fork.getIntArray("section.numbers"));
+    }
+
+    @Test
+    void snapshotsASection() {
+        final MemoryConfiguration configuration = SnapshotTest.sample();
+        final ConfigurationSection section = configuration.getConfigurationSection("section");
+        final Configuration snapshot = section.snapshot();
+        section.set("value", 2);
+        Assertions.assertEquals(1, snapshot.getInt("value", 0));
+        Assertions.assertFalse(snapshot.contains("name"));
+    }
+
+    @Test
+    void canBeReadWhileTheSectionChanges() throws Exception {
+        final MemoryConfiguration configuration = SnapshotTest.sample();
+        final Map<String, Object> before = SnapshotTest.leaves(configuration);
+        final Configuration snapshot = configuration.snapshot();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Integer> reader = executor.submit(() -> {
+                int wrong = 0;
+                for (int round = 0; round < 2000; round++) {
+                    if (!before.equals(SnapshotTest.leaves(snapshot))) {
+                        wrong++;
+                    }
+                }
+                return wrong;
+            });
+            for (int round = 0; !reader.isDone(); round++) {
+                configuration.set("name", "name" + round);
+                configuration.set("section.value", round);
+                // noinspection unchecked
+                ((List<Object>) configuration.getList("section.strings")).add(round);
+                configuration.set("section.strings", new ArrayList<>(Arrays.asList("a", "b")));
+            }
+            Assertions.assertEquals(0, reader.get(1L, TimeUnit.MINUTES));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void matchesCopiesUnderRandomChanges() {
+        final Random random = new Random(42L);
+        for (int run = 0; run < 50; run++) {
+            final MemoryConfiguration configuration = new MemoryConfiguration();
+            final List<ConfigurationSection> trees = new ArrayList<>();
+            trees.add(configuration);
+            final List<Configuration> snapshots = new ArrayList<>();
+            final List<Map<String, Object>> expected = new ArrayList<>();
+            for (int step = 0; step < 200; step++) {
+                final ConfigurationSection tree = trees.get(random.nextInt(trees.size()));
+                final String path = SnapshotTest.PATHS[random.nextInt(SnapshotTest.PATHS.length)];
+                switch (random.nextInt(8)) {
+                    case 0:
+                        tree.set(path, step);
+                        break;
+                    case 1:
+                        tree.set(path, new ArrayList<>(Arrays.asList(step, step + 1)));
+                        break;
+                    case 2:
+                        tree.set(path, new ArrayList<>(Arrays.asList("s" + step)));
+                        break;
+                    case 3:
+                        tree.set(path, null);
+                        break;
+                    case 4:
+                        if (!tree.isSet(path) || tree.isConfigurationSection(path)) {
+                            tree.createSection(path);
+                        }
+                        break;
+                    case 5:
+                        final List<?> list = tree.getList(path);
+                        if (list != null) {
+                            // noinspection unchecked
+                            ((List<Object>) list).add(random.nextBoolean() ? step : "s" + step);
+                        }
+                        break;
+                    case 6:
+                        snapshots.add(tree.snapshot());
+                        expected.add(SnapshotTest.leaves(tree));
+                        break;
+                    default:
+                        if (trees.size() < 4) {
+                            final Configuration fork = tree.fork();
+                            Assertions.assertEquals(SnapshotTest.leaves(tree), SnapshotTest.leaves(fork));
+                            trees.add(fork);
+                        }
+                        break;
+                }
+            }
+            for (int index = 0; index < snapshots.size(); index++) {
+                Assertions.assertEquals(expected.get(index), SnapshotTest.leaves(snapshots.get(index)),
+                    "run " + run + ", snapshot " + index);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class BinaryConfigurationTest {
+
+    private static final String TEXT = "nul \u0000 Demirtaş 😀";
+
+    private static byte[] bytes(final BinaryConfiguration configuration) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        configuration.save(output);
+        return output.toByteArray();
+    }
+
+    private static BinaryConfiguration load(final byte[] bytes) {
+        final BinaryConfiguration configuration = new BinaryConfiguration();
+        configuration.load(new ByteArrayInputStream(bytes));
+        return configuration;
+    }
+
+    private static int indexOf(final byte[] bytes, final byte[] part) {
+        for (int index = 0; index <= bytes.length - part.length; index++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, index, index + part.length), part)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    void keepsValues() throws IOException {
+        final BinaryConfiguration configuration = new BinaryConfiguration();
+        configuration.set("boolean", true);
+        configuration.set("byte", (byte) -3);
+        configuration.set("short", (short) 1234);
+        configuration.set("int", -42);
+        configuration.set("long", Long.MIN_VALUE);
+        configuration.set("float", 1.5F);
+        configuration.set("double", -2.25);
+        configuration.set("char", 'ş');
+        configuration.set("string", BinaryConfigurationTest.TEXT);
+        configuration.set("list", Arrays.asList("a", 1, Arrays.asList(2L, false), Collections.emptyList()));
+        configuration.set("numbers", Arrays.asList(1, 2, 3));
+        configuration.set("section.inner.key", "value");
+        configuration.createSection("blank");
+        final BinaryConfiguration loaded = BinaryConfigurationTest.load(BinaryConfigurationTest.bytes(configuration));
+        Assertions.assertEquals(configuration.getKeys(true), loaded.getKeys(true));
+        for (final String path : configuration.getKeys(true)) {
+            if (!configuration.isConfigurationSection(path)) {
+                Assertions.assertEquals(configuration.get(path), loaded.get(path), path);
+            }
+        }
+        Assertions.assertTrue(loaded.isConfigurationSection("blank"));
+    }
+
+    @Test
+    void writesStandardUtf8() throws IOException {
+        final BinaryConfiguration configuration = new BinaryConfiguration();
+        configuration.set("string", BinaryConfigurationTest.TEXT);
+        final byte[] bytes = BinaryConfigurationTest.bytes(configuration);
+        Assertions.assertTrue(BinaryConfigurationTest.indexOf(bytes,
+            BinaryConfigurationTest.TEXT.getBytes(StandardCharsets.UTF_8)) >= 0);
+    }
+
+    @Test
+    void keepsLongStrings() throws IOException {
+        final char[] chars = new char[100000];
+        Arrays.fill(chars, 'ş');
+        final String text = new String(chars);
+        final BinaryConfiguration configuration = new BinaryConfiguration();
+        configuration.set("string", text);
+        Assertions.assertEquals(text,
+            BinaryConfigurationTest.load(BinaryConfigurationTest.bytes(configuration)).getString("string"));
+    }
+
+    @Test
+    void rejectsSizesLongerThanTheInput() {
+        final byte[] string = {'C', 'F', 'G', 'B', 1, 1, 1, 'a', 9, -1, -1, -1, -1, 7, 'a', 'b', 'c'};
+        Assertions.assertThrows(EOFException.class, () -> BinaryConfigurationTest.load(string));
+        final byte[] list = {'C', 'F', 'G', 'B', 1, 1, 1, 'a', 10, -1, -1, -1, -1, 7, 0};
+        Assertions.assertThrows(EOFException.class, () -> BinaryConfigurationTest.load(list));
+    }
+
+}
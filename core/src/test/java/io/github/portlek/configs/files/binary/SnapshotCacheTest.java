@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.binary;
+
+import io.github.portlek.configs.configuration.FileConfiguration;
+import io.github.portlek.configs.files.FileType;
+import io.github.portlek.configs.files.yaml.YamlConfiguration;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SnapshotCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private File write(final String text) throws IOException {
+        final Path path = this.directory.resolve("config.yml");
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+        return path.toFile();
+    }
+
+    @Test
+    void loadsAnUnchangedFileFromItsSnapshot() throws IOException {
+        final File file = this.write("key: parsed\n");
+        final SnapshotCache cache = new SnapshotCache(null);
+        final YamlConfiguration snapshot = new YamlConfiguration();
+        snapshot.set("key", "snapshot");
+        cache.save(file, snapshot);
+        final FileConfiguration loaded = cache.load(file, FileType.YAML);
+        Assertions.assertTrue(loaded instanceof YamlConfiguration);
+        Assertions.assertEquals("snapshot", loaded.getString("key"));
+    }
+
+    @Test
+    void parsesAFileChangedWithoutItsTimeOrSize() throws IOException {
+        final File file = this.write("key: aaa\n");
+        final FileTime time = Files.getLastModifiedTime(file.toPath());
+        final SnapshotCache cache = new SnapshotCache(this.directory.resolve("cache").toFile());
+        cache.save(file, cache.load(file, FileType.YAML));
+        Assertions.assertEquals("aaa", cache.load(file, FileType.YAML).getString("key"));
+        this.write("key: bbb\n");
+        Files.setLastModifiedTime(file.toPath(), time);
+        Assertions.assertEquals("bbb", cache.load(file, FileType.YAML).getString("key"));
+    }
+
+    @Test
+    void keepsAnUpToDateSnapshot() throws IOException {
+        final File file = this.write("key: parsed\n");
+        final SnapshotCache cache = new SnapshotCache(null);
+        final YamlConfiguration snapshot = new YamlConfiguration();
+        snapshot.set("key", "snapshot");
+        cache.save(file, snapshot);
+        cache.save(file, cache.load(file, FileType.YAML));
+        Assertions.assertEquals("snapshot", cache.load(file, FileType.YAML).getString("key"));
+    }
+
+    @Test
+    void ignoresAnUnreadableSnapshot() throws IOException {
+        final File file = this.write("key: value\n");
+        final SnapshotCache cache = new SnapshotCache(null);
+        cache.save(file, cache.load(file, FileType.YAML));
+        final Path snapshot = this.directory.resolve("config.yml.cfgb");
+        final byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 3));
+        Assertions.assertEquals("value", cache.load(file, FileType.YAML).getString("key"));
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.json;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class JsonConfigurationTest {
+
+    private static final int MEMBERS = 200;
+
+    private static final String ESCAPED = "quote \" backslash \\ slash / tab \t newline \n control \u0001 Demirtaş";
+
+    private static JsonConfiguration sample() {
+        final JsonConfiguration configuration = new JsonConfiguration();
+        configuration.set("int", 42);
+        configuration.set("long", 1600000000000L);
+        configuration.set("double", 2.5);
+        configuration.set("small", 1.0E-7);
+        configuration.set("negative", -7);
+        configuration.set("boolean", true);
+        configuration.set("string", JsonConfigurationTest.ESCAPED);
+        configuration.set("empty", "");
+        configuration.set("list", Arrays.asList("a", "b", "c"));
+        configuration.set("numbers", Arrays.asList(1, 2, 3));
+        configuration.set("nested", Arrays.asList(Arrays.asList("x", "y"), Collections.emptyList()));
+        configuration.set("section.inner.key", "value");
+        configuration.set("section.key \"quoted\"", "quoted key");
+        configuration.createSection("blank");
+        return configuration;
+    }
+
+    @TempDir
+    Path directory;
+
+    private static JsonConfiguration lazy(final Path path, final int cacheSize) {
+        final JsonConfiguration configuration = new JsonConfiguration();
+        configuration.options().lazy(true).cacheSize(cacheSize);
+        configuration.load(path);
+        return configuration;
+    }
+
+    private static JsonConfiguration roundTrip(final JsonConfiguration configuration) {
+        final JsonConfiguration loaded = new JsonConfiguration();
+        loaded.loadFromString(configuration.saveToString());
+        return loaded;
+    }
+
+    private static void assertSample(final JsonConfiguration loaded) {
+        Assertions.assertEquals(42, loaded.getInt("int", 0));
+        Assertions.assertEquals(1600000000000L, loaded.getLong("long", 0L));
+        Assertions.assertEquals(2.5, loaded.getDouble("double", 0.0));
+        Assertions.assertEquals(1.0E-7, loaded.getDouble("small", 0.0));
+        Assertions.assertEquals(-7, loaded.getInt("negative", 0));
+        Assertions.assertTrue(loaded.getBoolean("boolean", false));
+        Assertions.assertEquals(JsonConfigurationTest.ESCAPED, loaded.getString("string"));
+        Assertions.assertEquals("", loaded.getString("empty"));
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), loaded.getStringList("list"));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), loaded.getIntegerList("numbers"));
+        Assertions.assertEquals(Arrays.asList(Arrays.asList("x", "y"), Collections.emptyList()),
+            loaded.getList("nested"));
+        Assertions.assertEquals("value", loaded.getString("section.inner.key"));
+        Assertions.assertEquals("quoted key", loaded.getString("section.key \"quoted\""));
+        Assertions.assertTrue(loaded.isConfigurationSection("blank"));
+    }
+
+    @Test
+    void keepsValues() {
+        final JsonConfiguration configuration = JsonConfigurationTest.sample();
+        final JsonConfiguration loaded = JsonConfigurationTest.roundTrip(configuration);
+        JsonConfigurationTest.assertSample(loaded);
+        Assertions.assertEquals(configuration.getKeys(true), loaded.getKeys(true));
+        Assertions.assertEquals(configuration.saveToString(), loaded.saveToString());
+    }
+
+    @Test
+    void keepsValuesWhenCompact() {
+        final JsonConfiguration configuration = JsonConfigurationTest.sample();
+        configuration.options().compact(true);
+        final String text = configuration.saveToString();
+        Assertions.assertFalse(text.contains("\n"));
+        final JsonConfiguration loaded = new JsonConfiguration();
+        loaded.loadFromString(text);
+        JsonConfigurationTest.assertSample(loaded);
+    }
+
+    @Test
+    void keepsKeyOrder() {
+        final JsonConfiguration configuration = new JsonConfiguration();
+        final String[] keys = {"zeta", "alpha", "mu", "beta", "omega", "gamma", "delta", "epsilon", "eta", "iota"};
+        for (final String key : keys) {
+            configuration.set(key, key.length());
+        }
+        final JsonConfiguration loaded = JsonConfigurationTest.roundTrip(configuration);
+        Assertions.assertEquals(Arrays.asList(keys), Arrays.asList(loaded.getKeys(false).toArray()));
+    }
+
+    @Test
+    void readsLazily() {
+        final Path path = this.directory.resolve("config.json");
+        JsonConfigurationTest.sample().save(path);
+        JsonConfigurationTest.assertSample(JsonConfigurationTest.lazy(path, 1));
+        JsonConfigurationTest.assertSample(JsonConfigurationTest.lazy(path, 64));
+    }
+
+    @Test
+    void savesLazilyLoadedMembers() {
+        final Path path = this.directory.resolve("config.json");
+        JsonConfigurationTest.sample().save(path);
+        final JsonConfiguration configuration = JsonConfigurationTest.lazy(path, 1);
+        configuration.set("section.inner.key", "changed");
+        configuration.save(path);
+        final JsonConfiguration loaded = new JsonConfiguration();
+        loaded.load(path);
+        Assertions.assertEquals("changed", loaded.getString("section.inner.key"));
+        Assertions.assertEquals(JsonConfigurationTest.ESCAPED, loaded.getString("string"));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), loaded.getIntegerList("numbers"));
+    }
+
+    @Test
+    void keepsListsChangedInPlace() {
+        final Path path = this.directory.resolve("config.json");
+        final JsonConfiguration sample = JsonConfigurationTest.sample();
+        sample.set("holder.names", Arrays.asList("a", "b"));
+        sample.save(path);
+        final JsonConfiguration configuration = JsonConfigurationTest.lazy(path, 1);
+        // noinspection unchecked
+        ((List<Object>) configuration.getList("list")).add("d");
+        // noinspection unchecked
+        ((List<Object>) configuration.getList("holder.names")).add("c");
+        JsonConfigurationTest.assertSample(JsonConfigurationTest.lazy(path, 1));
+        Assertions.assertEquals("value", configuration.getString("section.inner.key"));
+        Assertions.assertEquals(42, configuration.getInt("int", 0));
+        Assertions.assertEquals(Arrays.asList("a", "b", "c", "d"), configuration.getStringList("list"));
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), configuration.getStringList("holder.names"));
+        configuration.save(path);
+        final JsonConfiguration loaded = new JsonConfiguration();
+        loaded.load(path);
+        Assertions.assertEquals(Arrays.asList("a", "b", "c", "d"), loaded.getStringList("list"));
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), loaded.getStringList("holder.names"));
+    }
+
+    @Test
+    void readsLazilyFromManyThreads() throws Exception {
+        final Path path = this.directory.resolve("members.json");
+        final JsonConfiguration members = new JsonConfiguration();
+        for (int index = 0; index < JsonConfigurationTest.MEMBERS; index++) {
+            members.set("member" + index + ".value", index);
+        }
+        members.save(path);
+        final JsonConfiguration configuration = JsonConfigurationTest.lazy(path, 4);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                final int offset = thread;
+                results.add(executor.submit(() -> {
+                    int wrong = 0;
+                    for (int round = 0; round < 50; round++) {
+                        for (int index = 0; index < JsonConfigurationTest.MEMBERS; index++) {
+                            final int member = (index * 7 + offset) % JsonConfigurationTest.MEMBERS;
+                            if (configuration.getInt("member" + member + ".value", -1) != member) {
+                                wrong++;
+                            }
+                        }
+                    }
+                    return wrong;
+                }));
+            }
+            for (final Future<Integer> result : results) {
+                Assertions.assertEquals(0, result.get(1L, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
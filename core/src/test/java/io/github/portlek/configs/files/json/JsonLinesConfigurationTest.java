@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class JsonLinesConfigurationTest {
+
+    @TempDir
+    Path directory;
+
+    private static JsonLinesConfiguration load(final Path path) {
+        final JsonLinesConfiguration configuration = new JsonLinesConfiguration();
+        configuration.load(path);
+        return configuration;
+    }
+
+    private static void appendRecords(final Path path) {
+        final JsonLinesConfiguration configuration = new JsonLinesConfiguration();
+        configuration.append(path, "name", "first");
+        configuration.append(path, "count", 1);
+        configuration.append(path, "list", Arrays.asList("a", "b"));
+        configuration.append(path, "count", 2);
+        configuration.append(path, "removed", true);
+        configuration.append(path, "removed", null);
+        Assertions.assertFalse(configuration.contains("removed"));
+    }
+
+    private static void assertRecords(final JsonLinesConfiguration loaded) {
+        Assertions.assertEquals("first", loaded.getString("name"));
+        Assertions.assertEquals(2, loaded.getInt("count", 0));
+        Assertions.assertEquals(Arrays.asList("a", "b"), loaded.getStringList("list"));
+        Assertions.assertFalse(loaded.contains("removed"));
+        Assertions.assertEquals(Arrays.asList("name", "count", "list"), Arrays.asList(loaded.getKeys(false).toArray()));
+    }
+
+    private static List<Map.Entry<String, Object>> records(final Path path) {
+        try (final Stream<Map.Entry<String, Object>> records = JsonLinesConfiguration.records(path)) {
+            return records.collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void appendsRecords() throws IOException {
+        final Path path = this.directory.resolve("records.ndjson");
+        JsonLinesConfigurationTest.appendRecords(path);
+        Assertions.assertEquals(6, Files.readAllLines(path, StandardCharsets.UTF_8).size());
+        JsonLinesConfigurationTest.assertRecords(JsonLinesConfigurationTest.load(path));
+    }
+
+    @Test
+    void streamsRecords() {
+        final Path path = this.directory.resolve("records.ndjson");
+        JsonLinesConfigurationTest.appendRecords(path);
+        final List<Map.Entry<String, Object>> records = JsonLinesConfigurationTest.records(path);
+        Assertions.assertEquals(Arrays.asList("name", "count", "list", "count", "removed", "removed"),
+            records.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+        Assertions.assertEquals(new AbstractMap.SimpleImmutableEntry<>("count", 2), records.get(3));
+        Assertions.assertNull(records.get(5).getValue());
+    }
+
+    @Test
+    void closesTheFileWithTheRecords() {
+        final Path path = this.directory.resolve("records.ndjson");
+        JsonLinesConfigurationTest.appendRecords(path);
+        final Stream<Map.Entry<String, Object>> records = JsonLinesConfiguration.records(path);
+        final Iterator<Map.Entry<String, Object>> iterator = records.iterator();
+        Assertions.assertEquals("name", iterator.next().getKey());
+        records.close();
+        Assertions.assertThrows(UncheckedIOException.class, iterator::hasNext);
+    }
+
+    @Test
+    void appendsCompressedRecords() {
+        final Path path = this.directory.resolve("records.ndjson.gz");
+        JsonLinesConfigurationTest.appendRecords(path);
+        JsonLinesConfigurationTest.assertRecords(JsonLinesConfigurationTest.load(path));
+        Assertions.assertEquals(6, JsonLinesConfigurationTest.records(path).size());
+        JsonLinesConfigurationTest.load(path).compact(path);
+        JsonLinesConfigurationTest.assertRecords(JsonLinesConfigurationTest.load(path));
+        Assertions.assertEquals(3, JsonLinesConfigurationTest.records(path).size());
+    }
+
+    @Test
+    void compactsRecords() throws IOException {
+        final Path path = this.directory.resolve("records.ndjson");
+        JsonLinesConfigurationTest.appendRecords(path);
+        JsonLinesConfigurationTest.load(path).compact(path);
+        Assertions.assertEquals(Arrays.asList("{\"name\":\"first\"}", "{\"count\":2}", "{\"list\":[\"a\",\"b\"]}"),
+            Files.readAllLines(path, StandardCharsets.UTF_8));
+        JsonLinesConfigurationTest.assertRecords(JsonLinesConfigurationTest.load(path));
+    }
+
+}
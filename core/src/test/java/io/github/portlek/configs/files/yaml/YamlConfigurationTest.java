@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.yaml;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class YamlConfigurationTest {
+
+    private static final String[] STRINGS = {
+        "plain", "", " leading space", "trailing space ", "#not a comment", "key: value", "- not a list",
+        "[not a list]", "{not a map}", "'single'", "\"double\"", "100%", "Hasan Demirtaş", "a|b", "*alias",
+        "it's \"both\" # quoted", "C:\\dir # \\\"", "ends with \\"
+    };
+
+    private static YamlConfiguration roundTrip(final YamlConfiguration configuration) {
+        final YamlConfiguration loaded = new YamlConfiguration();
+        loaded.loadFromString(configuration.saveToString());
+        return loaded;
+    }
+
+    @Test
+    void keepsScalars() {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.set("int", 42);
+        configuration.set("long", 1600000000000L);
+        configuration.set("double", 2.5);
+        configuration.set("negative", -7);
+        configuration.set("boolean", true);
+        for (int index = 0; index < YamlConfigurationTest.STRINGS.length; index++) {
+            configuration.set("strings.s" + index, YamlConfigurationTest.STRINGS[index]);
+        }
+        final YamlConfiguration loaded = YamlConfigurationTest.roundTrip(configuration);
+        Assertions.assertEquals(42, loaded.getInt("int", 0));
+        Assertions.assertEquals(1600000000000L, loaded.getLong("long", 0L));
+        Assertions.assertEquals(2.5, loaded.getDouble("double", 0.0));
+        Assertions.assertEquals(-7, loaded.getInt("negative", 0));
+        Assertions.assertTrue(loaded.getBoolean("boolean", false));
+        for (int index = 0; index < YamlConfigurationTest.STRINGS.length; index++) {
+            Assertions.assertEquals(YamlConfigurationTest.STRINGS[index], loaded.getString("strings.s" + index),
+                "strings.s" + index);
+        }
+    }
+
+    @Test
+    void keepsMultiLineStrings() {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.set("top", "first\nsecond");
+        configuration.set("deep.down.text", "first\n\nthird");
+        configuration.set("deep.down.kept", "first\nsecond\n");
+        final YamlConfiguration loaded = YamlConfigurationTest.roundTrip(configuration);
+        Assertions.assertEquals("first\nsecond", loaded.getString("top"));
+        Assertions.assertEquals("first\n\nthird", loaded.getString("deep.down.text"));
+        Assertions.assertEquals("first\nsecond\n", loaded.getString("deep.down.kept"));
+    }
+
+    @Test
+    void keepsListsAndSections() {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.set("list", Arrays.asList("a", "b: c", "#d"));
+        configuration.set("numbers", Arrays.asList(1, 2, 3));
+        configuration.set("empty", Collections.emptyList());
+        configuration.createSection("section.inner").set("key", "value");
+        configuration.createSection("blank");
+        final YamlConfiguration loaded = YamlConfigurationTest.roundTrip(configuration);
+        Assertions.assertEquals(Arrays.asList("a", "b: c", "#d"), loaded.getStringList("list"));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3), loaded.getIntegerList("numbers"));
+        Assertions.assertTrue(loaded.getList("empty").isEmpty());
+        Assertions.assertEquals("value", loaded.getString("section.inner.key"));
+        Assertions.assertTrue(loaded.isConfigurationSection("blank"));
+    }
+
+    @Test
+    void keepsKeyOrder() {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        final String[] keys = {"zeta", "alpha", "mu", "beta", "omega", "gamma", "delta", "epsilon", "eta", "iota"};
+        for (final String key : keys) {
+            configuration.set(key, key.length());
+        }
+        final YamlConfiguration loaded = YamlConfigurationTest.roundTrip(configuration);
+        Assertions.assertEquals(Arrays.asList(keys), Arrays.asList(loaded.getKeys(false).toArray()));
+        Assertions.assertEquals(configuration.saveToString(), loaded.saveToString());
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class MutableYamlBuildersTest {
+
+    @Test
+    void buildsTheAddedPairs() {
+        final YamlMapping mapping = Yaml.createMutableYamlMappingBuilder()
+            .add("name", "first")
+            .add("age", "20")
+            .build();
+        Assertions.assertEquals("first", mapping.string("name"));
+        Assertions.assertEquals("20", mapping.string("age"));
+        Assertions.assertEquals(2, mapping.keys().size());
+    }
+
+    @Test
+    void buildsTheAddedNodes() {
+        final YamlSequence sequence = Yaml.createMutableYamlSequenceBuilder()
+            .add("first")
+            .add("second")
+            .build();
+        Assertions.assertEquals(2, sequence.size());
+        Assertions.assertEquals("second", sequence.string(1));
+    }
+
+    @Test
+    void rejectsTheMappingBuilderOnceBuilt() {
+        final YamlMappingBuilder builder = Yaml.createMutableYamlMappingBuilder()
+            .add("name", "first");
+        final YamlMapping mapping = builder.build();
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.add("age", "20"));
+        Assertions.assertThrows(IllegalStateException.class, builder::build);
+        Assertions.assertEquals(1, mapping.keys().size());
+    }
+
+    @Test
+    void rejectsTheSequenceBuilderOnceBuilt() {
+        final YamlSequenceBuilder builder = Yaml.createMutableYamlSequenceBuilder()
+            .add("first");
+        final YamlSequence sequence = builder.build();
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.add("second"));
+        Assertions.assertThrows(IllegalStateException.class, builder::build);
+        Assertions.assertEquals(1, sequence.size());
+    }
+
+}
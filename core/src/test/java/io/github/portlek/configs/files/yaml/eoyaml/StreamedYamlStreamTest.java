@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.files.yaml.eoyaml;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class StreamedYamlStreamTest {
+
+    private static final String DOCUMENTS = "---\n" +
+        "name: first\n" +
+        "---\n" +
+        "# only a comment\n" +
+        "---\n" +
+        "name: second\n" +
+        "...\n" +
+        "---\n" +
+        "name: Hasan Demirtaş\n";
+
+    private static final List<String> NAMES = Arrays.asList("first", "second", "Hasan Demirtaş");
+
+    private static List<String> names(final Stream<YamlNode> documents) {
+        return documents.map(document -> ((YamlMapping) document).string("name"))
+            .collect(Collectors.toList());
+    }
+
+    private static YamlStream stream() throws IOException {
+        return Yaml.createYamlInput(StreamedYamlStreamTest.DOCUMENTS).readYamlStream();
+    }
+
+    @Test
+    void streamsTheDocumentsOnce() throws IOException {
+        final YamlStream stream = StreamedYamlStreamTest.stream();
+        Assertions.assertEquals(StreamedYamlStreamTest.NAMES, StreamedYamlStreamTest.names(stream.documents()));
+        Assertions.assertEquals(0L, stream.documents().count());
+        Assertions.assertTrue(stream.values().isEmpty());
+    }
+
+    @Test
+    void continuesWhereTheLastStreamStopped() throws IOException {
+        final YamlStream stream = StreamedYamlStreamTest.stream();
+        final Iterator<YamlNode> first = stream.documents().iterator();
+        Assertions.assertEquals("first", ((YamlMapping) first.next()).string("name"));
+        final Iterator<YamlNode> second = stream.documents().iterator();
+        Assertions.assertEquals("second", ((YamlMapping) second.next()).string("name"));
+        Assertions.assertEquals("Hasan Demirtaş", ((YamlMapping) first.next()).string("name"));
+        Assertions.assertFalse(first.hasNext());
+        Assertions.assertFalse(second.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, second::next);
+    }
+
+    @Test
+    void keepsOnlyTheValuesLeft() throws IOException {
+        final YamlStream stream = StreamedYamlStreamTest.stream();
+        Assertions.assertEquals("first", ((YamlMapping) stream.documents().iterator().next()).string("name"));
+        final List<String> left = StreamedYamlStreamTest.NAMES.subList(1, 3);
+        Assertions.assertEquals(left, StreamedYamlStreamTest.names(stream.values().stream()));
+        Assertions.assertSame(stream.values(), stream.values());
+        Assertions.assertEquals(left, StreamedYamlStreamTest.names(stream.documents()));
+    }
+
+    @Test
+    void stopsReadingWhenClosed() throws IOException {
+        final YamlStream stream = StreamedYamlStreamTest.stream();
+        try (final Stream<YamlNode> documents = stream.documents()) {
+            Assertions.assertEquals("first", ((YamlMapping) documents.findFirst().get()).string("name"));
+        }
+        Assertions.assertEquals(0L, stream.documents().count());
+        Assertions.assertTrue(stream.values().isEmpty());
+    }
+
+}
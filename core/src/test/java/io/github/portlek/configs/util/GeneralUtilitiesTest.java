@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.configs.util;
+
+import io.github.portlek.configs.files.yaml.YamlConfiguration;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class GeneralUtilitiesTest {
+
+    @TempDir
+    Path directory;
+
+    private static void assertDefaults(final File file) {
+        final YamlConfiguration configuration = new YamlConfiguration();
+        configuration.load(file);
+        Assertions.assertEquals("default", configuration.getString("key"), file.getName());
+        Assertions.assertEquals(Arrays.asList("a", "b"), configuration.getStringList("list"), file.getName());
+    }
+
+    @Test
+    void copiesAResource() throws IOException {
+        final File file = GeneralUtilities.saveResource(this.directory.resolve("plain/config.yml").toFile(),
+            "defaults/config.yml");
+        GeneralUtilitiesTest.assertDefaults(file);
+        Assertions.assertEquals("key: default\nlist:\n  - a\n  - b\n",
+            new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void compressesAPlainResource() throws IOException {
+        final File file = GeneralUtilities.saveResource(this.directory.resolve("config.yml.gz").toFile(),
+            "defaults/config.yml");
+        final byte[] bytes = Files.readAllBytes(file.toPath());
+        Assertions.assertEquals((byte) 0x1F, bytes[0]);
+        Assertions.assertEquals((byte) 0x8B, bytes[1]);
+        GeneralUtilitiesTest.assertDefaults(file);
+    }
+
+    @Test
+    void rejectsAMissingResource() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+            GeneralUtilities.saveResource(this.directory.resolve("missing.yml").toFile(), "defaults/missing.yml"));
+    }
+
+    @Test
+    void keepsSingleCharactersAsStrings() {
+        for (final String value : new String[]{"a", "t", "f", "-", "+", ".", "#"}) {
+            Assertions.assertEquals(value, GeneralUtilities.parseScalar(value), value);
+        }
+        Assertions.assertEquals(7, GeneralUtilities.parseScalar("7"));
+    }
+
+    @Test
+    void parsesIntegers() {
+        Assertions.assertEquals(42, GeneralUtilities.parseScalar("42"));
+        Assertions.assertEquals(-42, GeneralUtilities.parseScalar("-42"));
+        Assertions.assertEquals(5, GeneralUtilities.parseScalar("+5"));
+        Assertions.assertEquals(10, GeneralUtilities.parseScalar("010"));
+        Assertions.assertEquals(1600000000000L, GeneralUtilities.parseScalar("1600000000000"));
+        Assertions.assertEquals(1.0E20, GeneralUtilities.parseScalar("100000000000000000000"));
+        Assertions.assertEquals(31, GeneralUtilities.parseScalar("0x1F"));
+        Assertions.assertEquals(15, GeneralUtilities.parseScalar("0o17"));
+        Assertions.assertEquals(0xFFFFFFFFFL, GeneralUtilities.parseScalar("0xFFFFFFFFF"));
+        Assertions.assertEquals("0x1G", GeneralUtilities.parseScalar("0x1G"));
+        Assertions.assertEquals("0o18", GeneralUtilities.parseScalar("0o18"));
+    }
+
+    @Test
+    void parsesDecimals() {
+        Assertions.assertEquals(1.5, GeneralUtilities.parseScalar("1.5"));
+        Assertions.assertEquals(-0.25, GeneralUtilities.parseScalar("-.25"));
+        Assertions.assertEquals(2.0, GeneralUtilities.parseScalar("2."));
+        Assertions.assertEquals(1000.0, GeneralUtilities.parseScalar("1e3"));
+        Assertions.assertEquals(1.0E-7, GeneralUtilities.parseScalar("1.0E-7"));
+        for (final String value : new String[]{"1.2.3", "1e", "1,000", "1.5x", "."}) {
+            Assertions.assertEquals(value, GeneralUtilities.parseScalar(value), value);
+        }
+    }
+
+    @Test
+    void parsesSpecialDecimals() {
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, GeneralUtilities.parseScalar(".inf"));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, GeneralUtilities.parseScalar("+.Inf"));
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, GeneralUtilities.parseScalar("-.INF"));
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, GeneralUtilities.parseScalar("-Infinity"));
+        Assertions.assertEquals(Double.NaN, GeneralUtilities.parseScalar(".nan"));
+        Assertions.assertEquals(Double.NaN, GeneralUtilities.parseScalar("NaN"));
+        Assertions.assertEquals("-.nan", GeneralUtilities.parseScalar("-.nan"));
+        Assertions.assertEquals(".infinity", GeneralUtilities.parseScalar(".infinity"));
+    }
+
+    @Test
+    void parsesBooleansAndText() {
+        Assertions.assertEquals(Boolean.TRUE, GeneralUtilities.parseScalar("true"));
+        Assertions.assertEquals(Boolean.TRUE, GeneralUtilities.parseScalar("TRUE"));
+        Assertions.assertEquals(Boolean.FALSE, GeneralUtilities.parseScalar("False"));
+        for (final String value : new String[]{"", "null", "yes", "text", "truer"}) {
+            Assertions.assertEquals(value, GeneralUtilities.parseScalar(value), value);
+        }
+    }
+
+}